@@ -0,0 +1,46 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.config.auth.PasswordHashCalibrator;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 현재 머신에서 BCrypt cost 별 비밀번호 검증 시간 측정
+ *
+ * - matches : 로그인 시 수행되는 검증 한 번의 시간
+ * 측정이 끝나면 spring.security.password.latency-budget-ms 기본값(100ms) 기준 추천 cost 를 출력합니다.
+ *
+ * 실행 : ./gradlew jmh -Pjmh.includes=BCryptCostBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BCryptCostBenchmark {
+
+    private static final long LATENCY_BUDGET_MS = 100;
+
+    @Param({"8", "10", "12"})
+    private int strength;
+
+    private BCryptPasswordEncoder passwordEncoder;
+    private String encodedPassword;
+
+    @Setup
+    public void setUp() {
+        passwordEncoder = new BCryptPasswordEncoder(strength);
+        encodedPassword = passwordEncoder.encode("benchmark-password");
+    }
+
+    @Benchmark
+    public boolean matches() {
+        return passwordEncoder.matches("benchmark-password", encodedPassword);
+    }
+
+    @TearDown(Level.Trial)
+    public void recommend() {
+        System.out.println("Recommended bcrypt-strength for " + LATENCY_BUDGET_MS + " ms budget : "
+                + PasswordHashCalibrator.recommendStrength(LATENCY_BUDGET_MS));
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.config.filter.ExcludePathMatcher;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter.shouldNotFilter 의 제외 경로 검사 비용 측정
+ *
+ * - antPathMatcherStream : 기존 방식 (excludeUrls.stream() + AntPathMatcher.match)
+ * - compiledMatcher : 시작 시 컴파일한 ExcludePathMatcher
+ *
+ * 실행 : ./gradlew jmh -Pjmh.includes=ExcludePathMatcherBenchmark
+ * 메모리 할당 확인 시 build.gradle jmh 블록에 profilers = ['gc'] 추가
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class ExcludePathMatcherBenchmark {
+
+    // JwtAuthenticationFilter 의 제외 경로와 동일
+    private static final List<String> EXCLUDE_URLS = List.of(
+            "/api/user/signup",
+            "/api/user/signin",
+            "/api/token/reissue",
+            "/api/user/logout",
+            "/swagger-ui/**",
+            "/v3/api-docs/**"
+    );
+
+    // 실제 트래픽에 가까운 요청 경로 (대부분 인증이 필요한 API)
+    @Param({
+            "/api/order/getUserOrder",
+            "/api/order/getStoreOrder/3f2b8c4e-8a61-4b7f-9a55-0d4c1f6f2a10",
+            "/api/products/stores/3f2b8c4e-8a61-4b7f-9a55-0d4c1f6f2a10",
+            "/api/user/signin",
+            "/swagger-ui/index.html"
+    })
+    private String path;
+
+    private final AntPathMatcher antPathMatcher = new AntPathMatcher();
+    private final ExcludePathMatcher excludePathMatcher = new ExcludePathMatcher(EXCLUDE_URLS);
+
+    @Benchmark
+    public boolean antPathMatcherStream() {
+        return EXCLUDE_URLS.stream().anyMatch(url -> antPathMatcher.match(url, path));
+    }
+
+    @Benchmark
+    public boolean compiledMatcher() {
+        return excludePathMatcher.matches(path);
+    }
+}
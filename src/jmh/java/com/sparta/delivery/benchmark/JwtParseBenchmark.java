@@ -0,0 +1,65 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.domain.token.dto.JwtClaims;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import javax.crypto.SecretKey;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtAuthenticationFilter 에서 요청 한 건당 access token 을 처리하는 비용 측정
+ *
+ * - legacyFivePasses : 기존 방식 (isExpired, getCategory, getUsername, getEmail, getRole 각각 parser 생성 + 서명 검증)
+ * - singleParse : JwtUtil.parseToken 으로 한 번만 파싱
+ *
+ * 실행 : ./gradlew jmh -Pjmh.includes=JwtParseBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JwtParseBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-hs256-0123456789";
+
+    private JwtUtil jwtUtil;
+    private SecretKey secretKey;
+    private String accessToken;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil(SECRET);
+        secretKey = new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8),
+                Jwts.SIG.HS256.key().build().getAlgorithm());
+        accessToken = jwtUtil.createJwt("access", "benchmarkUser", "bench@test.com", UserRoles.ROLE_CUSTOMER, 3600000L);
+    }
+
+    @Benchmark
+    public void legacyFivePasses(Blackhole blackhole) {
+        blackhole.consume(legacyParse(accessToken).getExpiration());
+        blackhole.consume(legacyParse(accessToken).get("category", String.class));
+        blackhole.consume(legacyParse(accessToken).get("username", String.class));
+        blackhole.consume(legacyParse(accessToken).get("email", String.class));
+        blackhole.consume(UserRoles.fromString(legacyParse(accessToken).get("role", String.class)));
+    }
+
+    @Benchmark
+    public JwtClaims singleParse() {
+        return jwtUtil.parseToken(accessToken);
+    }
+
+    // 변경 전 JwtUtil.parseClaims 와 동일하게 매 호출마다 parser 를 새로 생성
+    private Claims legacyParse(String token) {
+        return Jwts.parser()
+                .verifyWith(secretKey)
+                .build()
+                .parseSignedClaims(token)
+                .getPayload();
+    }
+}
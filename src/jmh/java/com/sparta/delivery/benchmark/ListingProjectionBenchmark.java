@@ -0,0 +1,235 @@
+package com.sparta.delivery.benchmark;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.DeliveryApplication;
+import com.sparta.delivery.domain.card.entity.Card;
+import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.QOrder;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
+import com.sparta.delivery.domain.payment.dto.SearchDto;
+import com.sparta.delivery.domain.payment.entity.Payment;
+import com.sparta.delivery.domain.payment.entity.QPayment;
+import com.sparta.delivery.domain.payment.repository.PaymentRepository;
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import com.sparta.delivery.domain.review.entity.Review;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 가게 주문 목록, 유저 리뷰 목록, 결제 내역 검색의 조회 비용 측정 (H2 메모리 DB)
+ *
+ * - *EntityMapping : 기존 방식 (엔티티를 영속성 컨텍스트에 올린 뒤 DTO 로 변환, 읽기/쓰기 트랜잭션)
+ * - *Projection : Projections.constructor 로 DTO 를 컬럼에서 바로 조회 (읽기 전용 트랜잭션)
+ *
+ * 실행 : ./gradlew jmh -Pjmh.includes=ListingProjectionBenchmark
+ * 메모리 할당 확인 시 build.gradle jmh 블록에 profilers = ['gc'] 추가
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ListingProjectionBenchmark {
+
+    // 한 페이지 크기이자 가게 주문, 유저 리뷰, 결제 내역의 개수
+    @Param({"10", "30", "50"})
+    private int pageSize;
+
+    private ConfigurableApplicationContext context;
+    private TransactionTemplate readWriteTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    private OrderRepository orderRepository;
+    private ReviewRepository reviewRepository;
+    private PaymentRepository paymentRepository;
+    private JPAQueryFactory queryFactory;
+
+    private Stores store;
+    private User customer;
+    private PageRequest pageRequest;
+    private final SearchDto searchDto = new SearchDto();
+
+    @Setup
+    public void setUp() {
+        // application.yml 의 PostgreSQL 설정보다 우선하도록 명령행 인자로 전달
+        context = new SpringApplicationBuilder(DeliveryApplication.class).run(
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.url=jdbc:h2:mem:listing_benchmark",
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jwt.secret=benchmark-secret-key-for-jwt-hs256-0123456789",
+                "--spring.jwt.reaper.initial-delay-ms=3600000",
+                "--spring.product.stock-ledger.enabled=false",
+                "--spring.security.password.calibrate-on-startup=false",
+                "--ai.apikey=benchmark",
+                "--server.port=0",
+                "--logging.level.root=WARN");
+
+        PlatformTransactionManager transactionManager = context.getBean(PlatformTransactionManager.class);
+        readWriteTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+
+        orderRepository = context.getBean(OrderRepository.class);
+        reviewRepository = context.getBean(ReviewRepository.class);
+        paymentRepository = context.getBean(PaymentRepository.class);
+        queryFactory = context.getBean(JPAQueryFactory.class);
+
+        readWriteTransaction.executeWithoutResult(status -> seed());
+        pageRequest = PageRequest.of(0, pageSize, Sort.by(Sort.Direction.ASC, "createdAt"));
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<OrderListResponseDto> storeOrdersEntityMapping() {
+        return readWriteTransaction.execute(status ->
+                orderRepository.findAllByStoresAndDeletedAtIsNull(store, pageRequest)
+                        .map(Order::toResponseListDto)
+                        .getContent());
+    }
+
+    @Benchmark
+    public List<OrderListResponseDto> storeOrdersProjection() {
+        return readOnlyTransaction.execute(status ->
+                orderRepository.searchStoreOrders(store.getStoreId(), pageRequest).getContent());
+    }
+
+    @Benchmark
+    public List<ReviewResponseDto> userReviewsEntityMapping() {
+        return readWriteTransaction.execute(status ->
+                reviewRepository.findAllByUserAndDeletedAtIsNull(customer, pageRequest)
+                        .map(Review::toResponseDto)
+                        .getContent());
+    }
+
+    @Benchmark
+    public List<ReviewResponseDto> userReviewsProjection() {
+        return readOnlyTransaction.execute(status ->
+                reviewRepository.searchUserReviews(customer.getUserId(), pageRequest).getContent());
+    }
+
+    @Benchmark
+    public List<PaymentDto> paymentsEntityMapping() {
+        return readWriteTransaction.execute(status -> legacySearchPayments(customer.getUsername()));
+    }
+
+    @Benchmark
+    public List<PaymentDto> paymentsProjection() {
+        return readOnlyTransaction.execute(status ->
+                paymentRepository.searchPayments(searchDto, customer.getUsername()));
+    }
+
+    // 변경 전 PaymentRepositoryCustomImpl.searchPayments + PaymentService 의 DTO 변환과 동일 (검색 조건 없음)
+    private List<PaymentDto> legacySearchPayments(String username) {
+        QPayment payment = QPayment.payment;
+        QOrder order = QOrder.order;
+
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(payment.user.username.eq(username));
+
+        List<Payment> payments = queryFactory
+                .selectFrom(payment)
+                .leftJoin(payment.order, order).fetchJoin()
+                .leftJoin(payment.card).fetchJoin()
+                .where(builder)
+                .fetch();
+
+        return payments.stream().map(p -> PaymentDto.builder()
+                .paymentId(p.getPaymentId())
+                .amount(p.getAmount())
+                .orderId(p.getOrder().getOrderId())
+                .orderTime(p.getOrder().getOrderTime())
+                .orderType(p.getOrder().getOrderType())
+                .orderStatus(p.getOrder().getOrderStatus())
+                .requirements(p.getOrder().getRequirements())
+                .build()).toList();
+    }
+
+    // 가게 하나, 고객 하나에 pageSize 개의 주문과 주문마다 리뷰, 결제 생성
+    private void seed() {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        StoreRepository storeRepository = context.getBean(StoreRepository.class);
+        CardRepository cardRepository = context.getBean(CardRepository.class);
+
+        User owner = userRepository.save(User.builder()
+                .username("benchOwner")
+                .email("benchOwner@example.com")
+                .password("password")
+                .nickname("benchOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        customer = userRepository.save(User.builder()
+                .username("benchCustomer")
+                .email("benchCustomer@example.com")
+                .password("password")
+                .nickname("benchCustomer")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("benchStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        Card card = cardRepository.save(Card.builder()
+                .cardCompany("국민")
+                .cardNumber("1234")
+                .cardName("국민카드")
+                .user(customer)
+                .build());
+
+        for (int i = 0; i < pageSize; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .orderTime(LocalDateTime.now())
+                    .orderType(OrderType.PACKAGING)
+                    .orderStatus(OrderStatus.ORDER_COMPLETE)
+                    .requirements("문 앞에 놓아주세요")
+                    .stores(store)
+                    .user(customer)
+                    .build());
+
+            reviewRepository.save(Review.builder()
+                    .comment("good")
+                    .star(5)
+                    .order(order)
+                    .user(customer)
+                    .stores(store)
+                    .build());
+
+            paymentRepository.save(Payment.builder()
+                    .user(customer)
+                    .card(card)
+                    .order(order)
+                    .amount(22000)
+                    .build());
+        }
+    }
+}
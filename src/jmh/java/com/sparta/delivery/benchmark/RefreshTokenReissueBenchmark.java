@@ -0,0 +1,131 @@
+package com.sparta.delivery.benchmark;
+
+import com.sparta.delivery.DeliveryApplication;
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenService;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenStore;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.token.service.TokenDigest;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.tokenTest.EmbeddedKeyValueServer;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * refresh token 저장소별 access token 재발급 처리량 측정 (spring.jwt.refresh-store)
+ *
+ * - jpa : p_refresh_token 테이블 (H2 메모리 DB, 실제 PostgreSQL 은 네트워크 왕복이 추가됨)
+ * - memory : 프로세스 메모리 (단일 인스턴스 전용)
+ * - redis : 네트워크 KV 저장소 (localhost 소켓으로 연결한 EmbeddedKeyValueServer stand-in, 실제 Redis 는 별도 호스트 왕복이 추가됨)
+ *
+ * - reissue : RefreshTokenService.reissueAccessToken 전체 (토큰 파싱, 저장소 조회, access token 생성)
+ * - findOwner : 저장소 조회만
+ *
+ * 실행 : ./gradlew jmh -Pjmh.includes=RefreshTokenReissueBenchmark
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class RefreshTokenReissueBenchmark {
+
+    private static final String SECRET = "benchmark-secret-key-for-jwt-hs256-0123456789";
+    private static final int USERS = 100;
+
+    @Param({"jpa", "memory", "redis"})
+    private String store;
+
+    private EmbeddedKeyValueServer keyValueServer;
+    private ConfigurableApplicationContext context;
+
+    private RefreshTokenService refreshTokenService;
+    private RefreshTokenStore refreshTokenStore;
+
+    private final List<String> refreshTokens = new ArrayList<>();
+    private final List<String> tokenHashes = new ArrayList<>();
+
+    @Setup
+    public void setUp() throws IOException {
+        List<String> args = new ArrayList<>(List.of(
+                // application.yml 의 PostgreSQL 설정보다 우선하도록 명령행 인자로 전달
+                "--spring.datasource.driver-class-name=org.h2.Driver",
+                "--spring.datasource.url=jdbc:h2:mem:reissue_benchmark_" + store,
+                "--spring.datasource.username=sa",
+                "--spring.datasource.password=",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.jpa.show-sql=false",
+                "--spring.jwt.secret=" + SECRET,
+                "--spring.jwt.refresh-store=" + store,
+                "--spring.jwt.reaper.initial-delay-ms=3600000",
+                "--spring.product.stock-ledger.enabled=false",
+                "--spring.security.password.calibrate-on-startup=false",
+                "--ai.apikey=benchmark",
+                "--server.port=0",
+                "--logging.level.root=WARN"));
+        if (store.equals("redis")) {
+            keyValueServer = new EmbeddedKeyValueServer();
+            args.add("--spring.jwt.redis.host=localhost");
+            args.add("--spring.jwt.redis.port=" + keyValueServer.getPort());
+        }
+        context = new SpringApplicationBuilder(DeliveryApplication.class).run(args.toArray(String[]::new));
+
+        refreshTokenService = context.getBean(RefreshTokenService.class);
+        refreshTokenStore = context.getBean(RefreshTokenStore.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        UserRepository userRepository = context.getBean(UserRepository.class);
+
+        for (int i = 0; i < USERS; i++) {
+            User user = userRepository.save(User.builder()
+                    .username("reissueUser" + i)
+                    .email("reissue" + i + "@example.com")
+                    .password("password")
+                    .nickname("reissueUser" + i)
+                    .role(UserRoles.ROLE_CUSTOMER)
+                    .build());
+
+            String refresh = jwtUtil.createJwt("refresh", user.getUsername(), user.getEmail(), user.getRole(), 86400000L);
+            refreshTokenService.addRefreshTokenEntity(user, refresh);
+            refreshTokens.add(refresh);
+            tokenHashes.add(TokenDigest.sha256(refresh));
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        context.close();
+        if (keyValueServer != null) {
+            keyValueServer.close();
+        }
+    }
+
+    // 스레드마다 사용자를 돌아가며 요청
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int next;
+
+        private int next() {
+            next = (next + 1) % USERS;
+            return next;
+        }
+    }
+
+    @Benchmark
+    public String reissue(Cursor cursor) {
+        return refreshTokenService.reissueAccessToken(refreshTokens.get(cursor.next()));
+    }
+
+    @Benchmark
+    public Optional<RefreshTokenOwner> findOwner(Cursor cursor) {
+        return refreshTokenStore.findOwner(tokenHashes.get(cursor.next()), LocalDateTime.now());
+    }
+}
@@ -1,10 +1,30 @@
 package com.sparta.delivery.config;
 
+import jakarta.persistence.EntityManagerFactory;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 @Configuration
 @EnableJpaAuditing
-public class JpaConfig {
+public class JpaConfig implements WebMvcConfigurer {
 
-}
\ No newline at end of file
+    // 비밀번호 검증(BCrypt)을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 OSIV 에서 제외하는 로그인 경로
+    private static final String SIGNIN_PATH = "/api/user/signin";
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public JpaConfig(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    // spring.jpa.open-in-view 대신 로그인 경로를 제외하고 OSIV 등록 (요청 동안 열린 EntityManager 는 처음 사용한 커넥션을 요청이 끝날 때까지 유지)
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        OpenEntityManagerInViewInterceptor interceptor = new OpenEntityManagerInViewInterceptor();
+        interceptor.setEntityManagerFactory(entityManagerFactory);
+        registry.addWebRequestInterceptor(interceptor).excludePathPatterns(SIGNIN_PATH);
+    }
+}
@@ -16,15 +16,21 @@ public class PageableConfig {
 
     public PageRequest createPageRequest(Integer page, Integer size, String sortBy, String orderBy) {
         int pageNumber = (page != null) ? page : 0;
-        int pageSize = (size != null) ? size : defaultPageSize;
-
-        if (pageSize > maxPageSize)
-            pageSize = defaultPageSize;
+        int pageSize = createPageSize(size);
 
         String sortField = (sortBy != null) ? sortBy : this.sortBy;
         Sort.Direction direction = ("desc".equalsIgnoreCase(orderBy)) ? Sort.Direction.DESC : Sort.Direction.ASC;
 
         return PageRequest.of(pageNumber, pageSize, Sort.by(direction, sortField));
     }
-}
 
+    // 요청한 페이지 크기 (커서 페이지에서도 같은 기본값, 최대값 사용)
+    public int createPageSize(Integer size) {
+        int pageSize = (size != null) ? size : defaultPageSize;
+
+        if (pageSize > maxPageSize)
+            pageSize = defaultPageSize;
+
+        return pageSize;
+    }
+}
@@ -1,14 +1,32 @@
 package com.sparta.delivery.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.util.Map;
+
 @Configuration
 public class PasswordConfig {
+
+    public static final String BCRYPT_ID = "bcrypt";
+
+    /**
+     * 비밀번호 encoder
+     *
+     * 1. 새 비밀번호는 "{bcrypt}" prefix 와 설정된 cost(spring.security.password.bcrypt-strength)로 저장
+     * 2. prefix 가 없는 기존 해시는 일반 BCryptPasswordEncoder 로 검증 (cost 는 해시에 포함되어 있음)
+     * 3. prefix 가 없거나 cost 가 설정값보다 낮은 해시는 upgradeEncoding 이 true 를 반환하므로 로그인 성공 시 재해시
+     */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public PasswordEncoder passwordEncoder(@Value("${spring.security.password.bcrypt-strength:10}") int bcryptStrength) {
+        Map<String, PasswordEncoder> encoders = Map.of(BCRYPT_ID, new BCryptPasswordEncoder(bcryptStrength));
+
+        DelegatingPasswordEncoder passwordEncoder = new DelegatingPasswordEncoder(BCRYPT_ID, encoders);
+        passwordEncoder.setDefaultPasswordEncoderForMatches(new BCryptPasswordEncoder());
+        return passwordEncoder;
     }
 }
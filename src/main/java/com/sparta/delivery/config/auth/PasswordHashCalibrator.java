@@ -0,0 +1,89 @@
+package com.sparta.delivery.config.auth;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.security.crypto.bcrypt.BCrypt;
+import org.springframework.stereotype.Component;
+
+/**
+ * 현재 호스트에서 BCrypt cost 별 검증 시간을 측정하고, 목표 지연 시간(latency budget) 안에 드는 cost 를 추천하는 컴포넌트
+ *
+ * BCrypt 는 cost 가 1 증가할 때마다 시간이 두 배가 되므로, 배포 호스트의 CPU 에 따라 적절한 값이 달라집니다.
+ * spring.security.password.calibrate-on-startup=true 일 때만 애플리케이션 시작 시 한 번 측정하여 설정된 cost 가 budget 을 넘으면 경고 로그를 남깁니다.
+ * (측정에 약 1초가 걸리므로 기본값은 비활성화, cost 는 측정과 무관하게 bcrypt-strength 설정 값 사용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.security.password.calibrate-on-startup", havingValue = "true")
+public class PasswordHashCalibrator implements ApplicationRunner {
+
+    public static final int MIN_STRENGTH = 8;
+    public static final int MAX_STRENGTH = 14;
+
+    private static final String SAMPLE_PASSWORD = "calibration-password";
+
+    private final int bcryptStrength; // 현재 설정된 cost
+    private final long latencyBudgetMs; // 비밀번호 검증 한 번의 목표 시간 (밀리초 단위)
+
+    public PasswordHashCalibrator(@Value("${spring.security.password.bcrypt-strength:10}") int bcryptStrength,
+                                  @Value("${spring.security.password.latency-budget-ms:100}") long latencyBudgetMs) {
+        this.bcryptStrength = bcryptStrength;
+        this.latencyBudgetMs = latencyBudgetMs;
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        double configuredMs = measureMillis(bcryptStrength);
+        int recommended = recommendStrength(latencyBudgetMs);
+
+        if (configuredMs > latencyBudgetMs) {
+            log.warn("BCrypt strength {} takes {} ms on this host, over the {} ms budget. Recommended strength: {}",
+                    bcryptStrength, String.format("%.1f", configuredMs), latencyBudgetMs, recommended);
+        } else {
+            log.info("BCrypt strength {} takes {} ms on this host (budget {} ms, recommended strength: {})",
+                    bcryptStrength, String.format("%.1f", configuredMs), latencyBudgetMs, recommended);
+        }
+    }
+
+    /**
+     * 주어진 cost 로 해시 한 번을 계산하는 데 걸리는 시간을 측정하는 메서드 (3회 중 최소값)
+     *
+     * @param strength BCrypt cost
+     * @return 소요 시간 (밀리초 단위)
+     */
+    public static double measureMillis(int strength) {
+        String salt = BCrypt.gensalt(strength);
+        long best = Long.MAX_VALUE;
+
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            BCrypt.hashpw(SAMPLE_PASSWORD, salt);
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        return best / 1_000_000.0;
+    }
+
+    /**
+     * 검증 시간이 budget 을 넘지 않는 가장 큰 cost 를 반환하는 메서드
+     *
+     * cost 가 1 증가하면 시간이 두 배가 되므로 MIN_STRENGTH 를 한 번 측정한 뒤 나머지는 계산으로 추정합니다.
+     *
+     * @param latencyBudgetMs 목표 시간 (밀리초 단위)
+     * @return 추천 cost (MIN_STRENGTH ~ MAX_STRENGTH)
+     */
+    public static int recommendStrength(long latencyBudgetMs) {
+        double estimatedMs = measureMillis(MIN_STRENGTH);
+        int strength = MIN_STRENGTH;
+
+        while (strength < MAX_STRENGTH && estimatedMs * 2 <= latencyBudgetMs) {
+            estimatedMs *= 2;
+            strength++;
+        }
+
+        return strength;
+    }
+}
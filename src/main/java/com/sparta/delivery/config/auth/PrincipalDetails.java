@@ -1,39 +1,74 @@
 package com.sparta.delivery.config.auth;
 
-import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.token.dto.JwtClaims;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
 import java.util.Collection;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 
+/**
+ * 인증된 사용자 정보 (불변 객체)
+ *
+ * access token 의 claim 값(username, email, role)만 담으며, 요청마다 User 엔티티를 만들지 않습니다.
+ * 영속 상태의 User 가 필요한 서비스는 username 으로 직접 조회해야 합니다.
+ */
 public class PrincipalDetails implements UserDetails {
 
-    private final User user;
+    // 역할별 권한 목록은 역할마다 하나의 불변 리스트를 공유
+    private static final Map<UserRoles, List<GrantedAuthority>> AUTHORITIES = new EnumMap<>(UserRoles.class);
 
-    public PrincipalDetails(User user) {
-        super();
-        this.user = user;
+    static {
+        for (UserRoles role : UserRoles.values()) {
+            AUTHORITIES.put(role, List.of(new SimpleGrantedAuthority(role.name())));
+        }
+    }
+
+    private final String username;
+    private final String email;
+    private final UserRoles role;
+
+    public PrincipalDetails(String username, String email, UserRoles role) {
+        this.username = username;
+        this.email = email;
+        this.role = role;
+    }
+
+    /**
+     * 검증된 access token 의 claim 으로 인증 사용자 정보를 생성하는 메서드
+     *
+     * @param claims 검증된 JWT claim
+     * @return PrincipalDetails 객체
+     */
+    public static PrincipalDetails from(JwtClaims claims) {
+        return new PrincipalDetails(claims.username(), claims.email(), claims.role());
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(user.getRole().name()));
+        return AUTHORITIES.get(role);
     }
 
+    // 토큰 기반 인증이므로 비밀번호는 보관하지 않음
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return null;
     }
 
     @Override
     public String getUsername() {
-        return user.getUsername();
+        return username;
+    }
+
+    public String getEmail() {
+        return email;
     }
 
     public UserRoles getRole(){
-        return user.getRole();
+        return role;
     }
 }
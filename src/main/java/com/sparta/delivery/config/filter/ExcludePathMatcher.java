@@ -0,0 +1,75 @@
+package com.sparta.delivery.config.filter;
+
+import org.springframework.http.server.PathContainer;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 필터 제외 경로 목록을 애플리케이션 시작 시 한 번만 컴파일해 두는 matcher
+ *
+ * 1. 와일드카드가 없는 경로는 HashSet 으로 정확히 일치하는지 검사
+ * 2. "/prefix/**" 형태의 경로는 prefix 와 경로 구분자('/')만 비교
+ * 3. 그 외 패턴은 Spring PathPattern 으로 검사 (현재 제외 목록에는 없음)
+ *
+ * 1, 2번 검사는 요청마다 객체를 생성하지 않습니다.
+ */
+public class ExcludePathMatcher {
+
+    private static final String ANY_SUB_PATH = "/**";
+
+    private final Set<String> exactPaths = new HashSet<>();
+    private final List<String> prefixes = new ArrayList<>();
+    private final List<PathPattern> patterns = new ArrayList<>();
+
+    public ExcludePathMatcher(List<String> excludePatterns) {
+        for (String pattern : excludePatterns) {
+            if (!hasWildcard(pattern)) {
+                exactPaths.add(pattern);
+            } else if (pattern.endsWith(ANY_SUB_PATH) && !hasWildcard(pattern.substring(0, pattern.length() - ANY_SUB_PATH.length()))) {
+                prefixes.add(pattern.substring(0, pattern.length() - ANY_SUB_PATH.length()));
+            } else {
+                patterns.add(PathPatternParser.defaultInstance.parse(pattern));
+            }
+        }
+    }
+
+    /**
+     * 요청 경로가 제외 목록에 포함되는지 검사하는 메서드
+     *
+     * @param path 요청 URI
+     * @return 제외 대상이면 true
+     */
+    public boolean matches(String path) {
+        if (exactPaths.contains(path)) {
+            return true;
+        }
+
+        for (int i = 0; i < prefixes.size(); i++) {
+            String prefix = prefixes.get(i);
+            // "/swagger-ui/**" 는 "/swagger-ui" 와 "/swagger-ui/..." 에 일치
+            if (path.startsWith(prefix) && (path.length() == prefix.length() || path.charAt(prefix.length()) == '/')) {
+                return true;
+            }
+        }
+
+        if (!patterns.isEmpty()) {
+            PathContainer pathContainer = PathContainer.parsePath(path);
+            for (PathPattern pattern : patterns) {
+                if (pattern.matches(pathContainer)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    private static boolean hasWildcard(String pattern) {
+        return pattern.indexOf('*') >= 0 || pattern.indexOf('?') >= 0 || pattern.indexOf('{') >= 0;
+    }
+}
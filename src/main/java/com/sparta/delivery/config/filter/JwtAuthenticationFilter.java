@@ -2,9 +2,8 @@ package com.sparta.delivery.config.filter;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.InvalidTokenException;
-import com.sparta.delivery.domain.token.service.JwtUtil;
-import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.token.dto.JwtClaims;
+import com.sparta.delivery.domain.token.service.VerifiedTokenCache;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.MalformedJwtException;
@@ -16,7 +15,6 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.util.AntPathMatcher;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
@@ -37,9 +35,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtUtil jwtUtil;
-
-    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final VerifiedTokenCache verifiedTokenCache;
 
     // Header key 식별값
     public static final String AUTHORIZATION_HEADER = "Authorization";
@@ -58,21 +54,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             "/v3/api-docs/**"
     );
 
+    // 제외 경로는 시작 시 한 번만 컴파일
+    private static final ExcludePathMatcher excludePathMatcher = new ExcludePathMatcher(excludeUrls);
+
     // 특정 URL이 해당하면 필터링을 저적용하지않도록 검사
+    // OncePerRequestFilter 가 요청당 한 번 호출하므로 doFilterInternal 에서 다시 검사하지 않음
     @Override
     protected boolean shouldNotFilter(HttpServletRequest request) {
-        String requestPath = request.getRequestURI();
-        return excludeUrls.stream().anyMatch(url -> pathMatcher.match(url, requestPath));
+        return excludePathMatcher.matches(request.getRequestURI());
     }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
 
-        if (shouldNotFilter(request)) {
-            filterChain.doFilter(request, response);
-            return;
-        }
-
         String headerAuthorizationToken = request.getHeader(AUTHORIZATION_HEADER);
 
         // JWT 토큰이 없거나 Bearer 접두어가 없는 경우
@@ -83,27 +77,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
-        String accessToken = headerAuthorizationToken.split(" ")[1];
+        String accessToken = headerAuthorizationToken.substring(BEARER_PREFIX.length());
 
         try {
-            jwtUtil.isExpired(accessToken);
+            // 캐시에 검증된 토큰이 있으면 재사용, 없으면 파싱, 서명 검증, 만료 검사를 한 번에 수행
+            JwtClaims claims = verifiedTokenCache.getVerifiedClaims(accessToken);
 
-            if (!jwtUtil.getCategory(accessToken).equals("access")){
+            if (!claims.isAccessToken()){
                 throw new InvalidTokenException("Invalid token category. Expected 'access' token.");
             }
 
-            String username = jwtUtil.getUsername(accessToken);
-            String email = jwtUtil.getEmail(accessToken);
-            String role = jwtUtil.getRole(accessToken);
-
-            User user = User.builder()
-                    .username(username)
-                    .email(email)
-                    .role(UserRoles.fromString(role))
-                    .build();
-
-            // 인증 사용자 정보 생성
-            PrincipalDetails principalDetails = new PrincipalDetails(user);
+            // 인증 사용자 정보 생성 (User 엔티티 없이 claim 값으로 생성)
+            PrincipalDetails principalDetails = PrincipalDetails.from(claims);
 
             // 스프링 시큐리티 인증 토큰 생성
             Authentication authentication = new UsernamePasswordAuthenticationToken(principalDetails,
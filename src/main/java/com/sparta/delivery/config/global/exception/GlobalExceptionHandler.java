@@ -3,6 +3,7 @@ package com.sparta.delivery.config.global.exception;
 import com.sparta.delivery.config.global.exception.custom.*;
 import io.jsonwebtoken.ExpiredJwtException;
 import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -172,6 +173,13 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    @ExceptionHandler(OrderStatusConflictException.class)
+    public ResponseEntity<ExceptionResponse> OrderStatusConflictException(OrderStatusConflictException ex) {
+        int status = HttpServletResponse.SC_CONFLICT;
+        ExceptionResponse response = new ExceptionResponse("ORDER_STATUS_CONFLICT", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
     @ExceptionHandler(ProductQuantityNotAllowedException.class)
     public ResponseEntity<ExceptionResponse> ProductQuantityNotAllowedException(ProductQuantityNotAllowedException ex) {
         int status = HttpServletResponse.SC_FORBIDDEN;
@@ -215,6 +223,27 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(status).body(response);
     }
 
+    @ExceptionHandler(IdempotentRequestInProgressException.class)
+    public ResponseEntity<ExceptionResponse> IdempotentRequestInProgressException(IdempotentRequestInProgressException ex) {
+        int status = HttpServletResponse.SC_CONFLICT;
+        ExceptionResponse response = new ExceptionResponse("REQUEST_IN_PROGRESS", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(IdempotencyKeyReusedException.class)
+    public ResponseEntity<ExceptionResponse> IdempotencyKeyReusedException(IdempotencyKeyReusedException ex) {
+        int status = HttpStatus.UNPROCESSABLE_ENTITY.value();
+        ExceptionResponse response = new ExceptionResponse("IDEMPOTENCY_KEY_REUSED", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
+    @ExceptionHandler(LoginThrottledException.class)
+    public ResponseEntity<ExceptionResponse> LoginThrottledException(LoginThrottledException ex){
+        int status = HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+        ExceptionResponse response = new ExceptionResponse("SERVICE_UNAVAILABLE", ex.getMessage(), status);
+        return ResponseEntity.status(status).body(response);
+    }
+
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ExceptionResponse> exception(Exception ex) {
         int status = HttpServletResponse.SC_INTERNAL_SERVER_ERROR;
@@ -0,0 +1,7 @@
+package com.sparta.delivery.config.global.exception.custom;
+
+public class LoginThrottledException extends RuntimeException{
+    public LoginThrottledException(String message) {
+        super(message);
+    }
+}
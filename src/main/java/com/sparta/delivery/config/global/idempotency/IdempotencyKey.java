@@ -0,0 +1,71 @@
+package com.sparta.delivery.config.global.idempotency;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 처리한 Idempotency-Key 와 응답 (요청과 같은 트랜잭션에서 기록되므로 요청이 롤백되면 함께 사라짐)
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@Table(name = "p_idempotency_key",
+        uniqueConstraints = {
+                // (API, 사용자, key) 당 한 행만 기록 (인스턴스가 달라도 같은 요청은 한 번만 실행)
+                @UniqueConstraint(name = "uk_idempotency_key_scope_username_key", columnNames = {"scope", "username", "idempotency_key"})
+        },
+        indexes = {
+                // 만료된 key 범위 조회용
+                @Index(name = "idx_idempotency_key_expires_at", columnList = "expires_at")
+        })
+public class IdempotencyKey {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID idempotencyKeyId;
+
+    // API 구분 값
+    @Column(name = "scope", nullable = false, length = 50)
+    private String scope;
+
+    // 요청한 사용자 이름
+    @Column(name = "username", nullable = false)
+    private String username;
+
+    // Idempotency-Key 헤더 값
+    @Column(name = "idempotency_key", nullable = false)
+    private String idempotencyKey;
+
+    // 요청 본문의 SHA-256 digest (같은 key 로 다른 요청을 보냈는지 확인)
+    @Column(nullable = false, length = 64)
+    private String requestHash;
+
+    // 처음 응답의 상태 코드와 본문 (JSON)
+    @Column(nullable = false)
+    private int responseStatus;
+
+    @Column(columnDefinition = "text")
+    private String responseBody;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    // 응답 보관 만료 시각 (지나면 같은 key 로 다시 실행)
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    public void complete(int responseStatus, String responseBody) {
+        this.responseStatus = responseStatus;
+        this.responseBody = responseBody;
+    }
+
+    public boolean isExpired(LocalDateTime now) {
+        return !expiresAt.isAfter(now);
+    }
+}
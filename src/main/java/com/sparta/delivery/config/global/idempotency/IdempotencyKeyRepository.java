@@ -0,0 +1,29 @@
+package com.sparta.delivery.config.global.idempotency;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface IdempotencyKeyRepository extends JpaRepository<IdempotencyKey, UUID> {
+
+    Optional<IdempotencyKey> findByScopeAndUsernameAndIdempotencyKey(String scope, String username, String idempotencyKey);
+
+    // 같은 key 의 만료된 행 제거 (만료된 key 로 다시 요청하면 새 요청으로 실행)
+    @Modifying
+    @Query("delete from IdempotencyKey k " +
+            "where k.scope = :scope and k.username = :username and k.idempotencyKey = :idempotencyKey and k.expiresAt <= :now")
+    int deleteExpired(@Param("scope") String scope,
+                      @Param("username") String username,
+                      @Param("idempotencyKey") String idempotencyKey,
+                      @Param("now") LocalDateTime now);
+
+    // 만료된 행 일괄 제거 (제거된 행 수 반환)
+    @Modifying
+    @Query("delete from IdempotencyKey k where k.expiresAt <= :now")
+    int deleteAllExpired(@Param("now") LocalDateTime now);
+}
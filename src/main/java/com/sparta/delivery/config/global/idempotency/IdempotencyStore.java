@@ -0,0 +1,193 @@
+package com.sparta.delivery.config.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.config.global.exception.custom.IdempotencyKeyReusedException;
+import com.sparta.delivery.config.global.exception.custom.IdempotentRequestInProgressException;
+import com.sparta.delivery.domain.token.service.TokenDigest;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 헤더로 같은 요청의 재시도를 한 번만 실행하는 저장소
+ *
+ * 모바일 클라이언트가 응답 시간 초과로 주문, 결제 요청을 재시도해도 주문, 결제가 중복 생성되지 않도록 합니다.
+ *
+ * 1. (API, 사용자, Idempotency-Key) 행을 p_idempotency_key 에 기록하고, 같은 트랜잭션에서 요청을 실행한 뒤 응답과 함께 커밋
+ *    - 요청이 예외로 끝나면 key 행도 함께 롤백되므로 다음 재시도는 다시 실행
+ * 2. 같은 key 의 요청이 동시에 들어오면 (다른 인스턴스라도) unique 제약에서 처음 요청의 트랜잭션이 끝날 때까지 대기
+ * 3. 이미 기록된 key 로 다시 요청하면 실행하지 않고 기록된 응답을 반환 (Idempotent-Replayed 헤더 추가)
+ *    - 요청 본문의 digest 가 다르면 같은 key 를 다른 요청에 재사용한 것이므로 422
+ * 4. 보관 기간(ttlMs)이 지난 key 는 같은 key 로 다시 요청할 때, 또는 주기적으로 제거
+ */
+@Slf4j
+@Component
+public class IdempotencyStore {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+
+    private static final int MAX_KEY_LENGTH = 255;
+    private static final int MAX_ATTEMPTS = 3; // key 행이 만료되어 제거되는 중이면 다시 시도
+
+    private final IdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    private final long ttlMs; // 응답 보관 시간 (밀리초 단위)
+
+    private final Counter executedCounter;
+    private final Counter replayedCounter;
+    private final Counter rejectedCounter;
+    private final Counter purgedCounter;
+
+    /**
+     * IdempotencyStore 생성자
+     *
+     * @param idempotencyKeyRepository Idempotency-Key Repository
+     * @param transactionManager 요청과 key 기록을 묶을 트랜잭션 매니저
+     * @param objectMapper 요청 digest, 응답 본문 직렬화용 ObjectMapper
+     * @param meterRegistry 실행, 재전송, 거절 지표를 등록할 registry
+     * @param ttlMs 응답 보관 시간 (밀리초 단위)
+     */
+    public IdempotencyStore(IdempotencyKeyRepository idempotencyKeyRepository,
+                            PlatformTransactionManager transactionManager,
+                            ObjectMapper objectMapper,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.idempotency.ttl-ms:86400000}") long ttlMs) {
+        this.idempotencyKeyRepository = idempotencyKeyRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.ttlMs = ttlMs;
+
+        this.executedCounter = meterRegistry.counter("idempotency.requests", "result", "executed");
+        this.replayedCounter = meterRegistry.counter("idempotency.requests", "result", "replayed");
+        this.rejectedCounter = meterRegistry.counter("idempotency.requests", "result", "rejected");
+        this.purgedCounter = meterRegistry.counter("idempotency.purged");
+    }
+
+    /**
+     * Idempotency-Key 당 한 번만 요청을 실행하는 메서드
+     *
+     * @param scope API 구분 값 (같은 key 라도 API 가 다르면 별도 요청)
+     * @param username 요청한 사용자 이름 (같은 key 라도 사용자가 다르면 별도 요청)
+     * @param idempotencyKey Idempotency-Key 헤더 값 (없으면 매번 실행)
+     * @param requestBody 요청 본문 (같은 key 로 다른 요청을 보냈는지 확인)
+     * @param request 실제 요청 처리 (서비스 호출 후 응답 생성, key 기록과 같은 트랜잭션에서 실행)
+     * @return 실행한 응답 또는 기록된 응답
+     * @throws IllegalArgumentException key 가 255자를 넘는 경우
+     * @throws IdempotencyKeyReusedException 같은 key 로 본문이 다른 요청을 보낸 경우
+     * @throws IdempotentRequestInProgressException key 행이 반복해서 제거되어 결과를 확인하지 못한 경우
+     */
+    public ResponseEntity<?> execute(String scope, String username, String idempotencyKey, Object requestBody,
+                                     Supplier<ResponseEntity<?>> request) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return request.get();
+        }
+        if (idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new IllegalArgumentException("Idempotency-Key 는 " + MAX_KEY_LENGTH + "자 이하여야 합니다.");
+        }
+
+        String requestHash = TokenDigest.sha256(toJson(requestBody));
+
+        for (int attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            try {
+                return transactionTemplate.execute(status -> executeFirst(scope, username, idempotencyKey, requestHash, request));
+            } catch (DuplicateIdempotencyKeyException e) {
+                // 같은 key 의 요청이 먼저 커밋됨 (커밋된 행에는 응답이 함께 기록되어 있음)
+                Optional<IdempotencyKey> existing = idempotencyKeyRepository.findByScopeAndUsernameAndIdempotencyKey(scope, username, idempotencyKey);
+                if (existing.isPresent() && !existing.get().isExpired(LocalDateTime.now())) {
+                    return replay(existing.get(), requestHash);
+                }
+            }
+        }
+        throw new IdempotentRequestInProgressException("같은 요청이 아직 처리 중입니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    private ResponseEntity<?> executeFirst(String scope, String username, String idempotencyKey, String requestHash,
+                                           Supplier<ResponseEntity<?>> request) {
+        LocalDateTime now = LocalDateTime.now();
+        idempotencyKeyRepository.deleteExpired(scope, username, idempotencyKey, now);
+
+        IdempotencyKey key = IdempotencyKey.builder()
+                .scope(scope)
+                .username(username)
+                .idempotencyKey(idempotencyKey)
+                .requestHash(requestHash)
+                .createdAt(now)
+                .expiresAt(now.plusNanos(ttlMs * 1_000_000))
+                .build();
+        try {
+            // 같은 key 의 처리 중인 요청이 있으면 그 트랜잭션이 끝날 때까지 대기
+            idempotencyKeyRepository.saveAndFlush(key);
+        } catch (DataIntegrityViolationException e) {
+            throw new DuplicateIdempotencyKeyException();
+        }
+
+        executedCounter.increment();
+        ResponseEntity<?> response = request.get();
+        key.complete(response.getStatusCode().value(), response.getBody() == null ? null : toJson(response.getBody()));
+        return response;
+    }
+
+    private ResponseEntity<?> replay(IdempotencyKey key, String requestHash) {
+        if (!key.getRequestHash().equals(requestHash)) {
+            rejectedCounter.increment();
+            throw new IdempotencyKeyReusedException("같은 Idempotency-Key 로 다른 요청을 보낼 수 없습니다.");
+        }
+
+        replayedCounter.increment();
+        return ResponseEntity.status(key.getResponseStatus())
+                .header(REPLAYED_HEADER, "true")
+                .body(key.getResponseBody() == null ? null : fromJson(key.getResponseBody()));
+    }
+
+    /**
+     * 보관 기간이 지난 key 를 제거하는 메서드
+     *
+     * @return 제거된 key 수
+     */
+    @Scheduled(initialDelayString = "${spring.idempotency.purge.initial-delay-ms:60000}",
+            fixedDelayString = "${spring.idempotency.purge.interval-ms:3600000}")
+    public int purgeExpired() {
+        Integer purged = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteAllExpired(LocalDateTime.now()));
+        purgedCounter.increment(purged);
+        log.debug("Purged {} expired idempotency keys", purged);
+        return purged;
+    }
+
+    private String toJson(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Idempotency-Key 요청, 응답을 JSON 으로 변환할 수 없습니다.", e);
+        }
+    }
+
+    private Object fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, Object.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("기록된 Idempotency-Key 응답을 읽을 수 없습니다.", e);
+        }
+    }
+
+    // key 기록 실패 (트랜잭션을 롤백하고 기록된 행을 조회하기 위한 내부 신호)
+    private static class DuplicateIdempotencyKeyException extends RuntimeException {
+        private DuplicateIdempotencyKeyException() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -19,7 +19,7 @@ public class Card extends Timestamped {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID cardId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
@@ -32,7 +32,7 @@ public class DeliveryAddress extends Timestamped {
     @Column(name = "detail_address")
     private String detailAddress;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private User user;
 
@@ -2,9 +2,11 @@ package com.sparta.delivery.domain.delivery_address.repository;
 
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.user.entity.User;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
+import java.util.Collection;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -18,4 +20,11 @@ public interface DeliveryAddressRepository extends JpaRepository<DeliveryAddress
 
     // 제거 되지않은 배송지 반환
     Optional<DeliveryAddress> findByDeliveryAddressIdAndDeletedAtIsNull(UUID deliveryAddressId);
+
+    // 배송지 수정, 삭제 시 본인 확인을 위해 사용자까지 함께 조회
+    @EntityGraph(attributePaths = "user")
+    Optional<DeliveryAddress> findWithUserByDeliveryAddressIdAndDeletedAtIsNull(UUID deliveryAddressId);
+
+    // id 목록 중 제거 되지않은 배송지 수 반환 (존재 여부를 count 쿼리 한 번으로 확인)
+    long countByDeliveryAddressIdInAndDeletedAtIsNull(Collection<UUID> deliveryAddressIds);
 }
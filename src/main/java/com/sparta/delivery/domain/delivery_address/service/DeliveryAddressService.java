@@ -13,6 +13,7 @@ import com.sparta.delivery.domain.delivery_address.entity.QDeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -30,6 +31,7 @@ public class DeliveryAddressService {
 
     private final DeliveryAddressRepository addressRepository; // 배송지를 관리하는 repository
     private final UserRepository userRepository; // User를 관리하는 repository
+    private final UserResolver userResolver; // 현재 요청의 User 를 조회하는 resolver
 
     /**
      * 유저의 배송지를 추가하는 기능
@@ -52,7 +54,7 @@ public class DeliveryAddressService {
      */
     public AddressResDto addAddress(AddressReqDto addressReqDto, PrincipalDetails principalDetails) {
 
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())
+        User user = userResolver.findUser(principalDetails.getUsername())
                 .orElseThrow(()-> new UserNotFoundException("Invalid username : " + principalDetails.getUsername()));
 
         // 동일한 user를 가지고있는 deliveryAddress 중에 중복된 명이 있으면 중복 반환
@@ -159,10 +161,10 @@ public class DeliveryAddressService {
      */
     public AddressResDto updateDeliveryAddresses(UUID id, AddressReqDto addressReqDto, PrincipalDetails principalDetails) {
 
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())
+        User user = userResolver.getReference(principalDetails.getUsername())
                 .orElseThrow(()-> new UserNotFoundException("Invalid username : " + principalDetails.getUsername()));
 
-        DeliveryAddress deliveryAddress = addressRepository.findByDeliveryAddressIdAndDeletedAtIsNull(id)
+        DeliveryAddress deliveryAddress = addressRepository.findWithUserByDeliveryAddressIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new DeliveryAddressNotFoundException("DeliveryAddress Not Found By Id : "+ id));
 
         if(addressRepository.existsByUserAndDeliveryAddressAndDeletedAtIsNull(user, addressReqDto.getDeliveryAddress())){
@@ -200,7 +202,7 @@ public class DeliveryAddressService {
      */
     public void deleteDeliveryAddresses(UUID id, PrincipalDetails principalDetails) {
 
-        DeliveryAddress deliveryAddress = addressRepository.findByDeliveryAddressIdAndDeletedAtIsNull(id)
+        DeliveryAddress deliveryAddress = addressRepository.findWithUserByDeliveryAddressIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new DeliveryAddressNotFoundException("DeliveryAddress Not Found By Id : "+ id));
 
         if (!deliveryAddress.getUser().getUsername().equals(principalDetails.getUsername()) &&
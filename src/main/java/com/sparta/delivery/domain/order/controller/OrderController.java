@@ -2,6 +2,8 @@ package com.sparta.delivery.domain.order.controller;
 
 import com.sparta.delivery.config.PageableConfig;
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.config.global.idempotency.IdempotencyStore;
+import com.sparta.delivery.domain.order.dto.OrderEventDto;
 import com.sparta.delivery.domain.order.dto.OrderRequestDto;
 import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
 import com.sparta.delivery.domain.order.service.OrderService;
@@ -14,9 +16,12 @@ import org.springframework.web.bind.annotation.RequestBody;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
 
 import java.util.Collections;
 import java.util.List;
@@ -30,14 +35,20 @@ public class OrderController {
     private final OrderService orderService;
 
     private final PageableConfig pageableConfig;
+    private final IdempotencyStore idempotencyStore;
 
     @OrderSwaggerDocs.addOrder
     @Operation(summary = "주문 등록")
     @PostMapping("")
-    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderRequestDto requestDto, @AuthenticationPrincipal PrincipalDetails userDetails) {
+    public ResponseEntity<?> createOrder(@Valid @RequestBody OrderRequestDto requestDto,
+                                         @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                         @AuthenticationPrincipal PrincipalDetails userDetails) {
         requestDto.isValidDeliveryAddress();
-        orderService.createOrder(requestDto, userDetails.getUsername());
-        return ResponseEntity.status(HttpStatus.OK).build();
+        // 같은 Idempotency-Key 로 재시도하면 주문을 다시 생성하지 않고 처음 응답을 반환
+        return idempotencyStore.execute("createOrder", userDetails.getUsername(), idempotencyKey, requestDto, () -> {
+            orderService.createOrder(requestDto, userDetails.getUsername());
+            return ResponseEntity.status(HttpStatus.OK).build();
+        });
     }
 
     @OrderSwaggerDocs.getOrder
@@ -69,6 +80,24 @@ public class OrderController {
                 .body(orderService.getUserOrderList(userDetails.getUsername(), pageable, storeIdList, deliveryAddressIdList));
     }
 
+    @OrderSwaggerDocs.getUserOrderCursor
+    @Operation(summary = "유저 주문 커서 조회 - 최신순, 전체 개수 없음")
+    @GetMapping("/getUserOrder/cursor")
+    public ResponseEntity<?> getUserOrderCursor(@RequestParam(name = "cursor", required = false) String cursor,
+                                                @RequestParam(name = "size", required = false) Integer size,
+                                                @RequestParam(name = "storeIdList", required = false) List<UUID> storeIdList,
+                                                @RequestParam(name = "deliveryAddressIdList", required = false) List<UUID> deliveryAddressIdList,
+                                                @AuthenticationPrincipal PrincipalDetails userDetails) {
+        if (storeIdList == null)
+            storeIdList = Collections.emptyList();
+
+        if (deliveryAddressIdList == null)
+            deliveryAddressIdList = Collections.emptyList();
+
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(orderService.getUserOrderCursor(userDetails.getUsername(), cursor, pageableConfig.createPageSize(size), storeIdList, deliveryAddressIdList));
+    }
+
     @OrderSwaggerDocs.getStoreOrder
     @Operation(summary = "가게 주문 조회")
     @GetMapping("/getStoreOrder/{storeId}")
@@ -83,6 +112,26 @@ public class OrderController {
                 .body(orderService.getStoreOrderList(storeId, pageable, userDetails.getUsername()));
     }
 
+    @OrderSwaggerDocs.getStoreOrderCursor
+    @Operation(summary = "가게 주문 커서 조회 - 최신순, 전체 개수 없음")
+    @GetMapping("/getStoreOrder/{storeId}/cursor")
+    public ResponseEntity<?> getStoreOrderCursor(@PathVariable("storeId") UUID storeId,
+                                                 @RequestParam(name = "cursor", required = false) String cursor,
+                                                 @RequestParam(name = "size", required = false) Integer size,
+                                                 @AuthenticationPrincipal PrincipalDetails userDetails) {
+        return ResponseEntity.status(HttpStatus.OK)
+                .body(orderService.getStoreOrderCursor(storeId, cursor, pageableConfig.createPageSize(size), userDetails.getUsername()));
+    }
+
+    @OrderSwaggerDocs.getStoreOrderStream
+    @Operation(summary = "가게 주문 실시간 구독 (SSE) - 주문 생성, 상태 변경")
+    @GetMapping(value = "/getStoreOrder/{storeId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public Flux<ServerSentEvent<OrderEventDto>> getStoreOrderStream(@PathVariable("storeId") UUID storeId,
+                                                                    @RequestHeader(name = "Last-Event-ID", required = false) String lastEventId,
+                                                                    @AuthenticationPrincipal PrincipalDetails userDetails) {
+        return orderService.getStoreOrderFeed(storeId, lastEventId, userDetails.getUsername());
+    }
+
     @OrderSwaggerDocs.deleteOrder
     @Operation(summary = "주문 삭제")
     @PatchMapping("/deleteOrder/{orderId}")
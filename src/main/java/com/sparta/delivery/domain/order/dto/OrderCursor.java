@@ -0,0 +1,42 @@
+package com.sparta.delivery.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 주문 목록 커서 페이지의 위치 (마지막으로 받은 주문의 주문 시간, 주문 id)
+ *
+ * 클라이언트에는 내용을 알 수 없는 문자열(Base64 URL)로 전달하고, 다음 요청 시 그대로 돌려받습니다.
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursor {
+    private static final String DELIMITER = "_";
+
+    private LocalDateTime orderTime;
+    private UUID orderId;
+
+    public String encode() {
+        String raw = orderTime + DELIMITER + orderId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 커서가 없으면 첫 페이지 (null 반환)
+    public static OrderCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank())
+            return null;
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(DELIMITER, 2);
+            return new OrderCursor(LocalDateTime.parse(parts[0]), UUID.fromString(parts[1]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.sparta.delivery.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 주문 목록 커서 페이지 응답
+ *
+ * 전체 개수는 조회하지 않으며, 다음 페이지가 있으면 nextCursor 로 이어서 요청합니다. (마지막 페이지면 null)
+ */
+@Getter
+@AllArgsConstructor
+public class OrderCursorPageResponseDto<T> {
+    private List<T> content;
+    private String nextCursor;
+    private boolean hasNext;
+
+    // size + 1 개까지 조회한 결과로 다음 페이지 존재 여부를 판단
+    public static <T> OrderCursorPageResponseDto<T> of(List<T> rows, int size, Function<T, OrderCursor> cursorOf) {
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)).encode() : null;
+
+        return new OrderCursorPageResponseDto<>(content, nextCursor, hasNext);
+    }
+}
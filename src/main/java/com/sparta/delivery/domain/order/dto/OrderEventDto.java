@@ -0,0 +1,27 @@
+package com.sparta.delivery.domain.order.dto;
+
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 가게 주문 피드(SSE)로 전송되는 주문 이벤트 (eventId 는 outbox id, SSE id 와 Last-Event-ID 로 사용)
+@Getter
+@AllArgsConstructor
+public class OrderEventDto {
+    private UUID eventId;
+    private OrderEventType eventType;
+    private UUID orderId;
+    private UUID storeId;
+    private OrderStatus orderStatus;
+    private LocalDateTime occurredAt;
+
+    public static OrderEventDto from(OrderLifecycleEvent event) {
+        return new OrderEventDto(event.getEventId(), event.getEventType(), event.getOrderId(),
+                event.getStoreId(), event.getOrderStatus(), event.getOccurredAt());
+    }
+}
@@ -0,0 +1,16 @@
+package com.sparta.delivery.domain.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.UUID;
+
+@Builder
+@Getter
+@AllArgsConstructor
+public class OrderProductResponseDto {
+    private UUID productId;
+    private int quantity;
+    private int unitPrice;
+}
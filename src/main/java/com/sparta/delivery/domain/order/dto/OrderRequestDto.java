@@ -6,13 +6,16 @@ import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
+import jakarta.validation.Valid;
 import jakarta.validation.constraints.AssertTrue;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Builder
@@ -24,7 +27,10 @@ public class OrderRequestDto {
     private UUID deliveryAddressId;
     @NotNull(message = "가게Id를 입력해주세요")
     private UUID storeId;
+    // 상품 1개씩 담는 기존 방식 (같은 id 를 여러 번 담으면 그만큼 수량 증가)
     private List<UUID> productId;
+    // (상품 id, 수량) 목록
+    private List<@Valid OrderProductRequestDto> orderProducts;
     @NotNull(message = "주문 유형을 입력해주세요")
     private OrderType orderType;
     private String requirements;
@@ -38,6 +44,28 @@ public class OrderRequestDto {
         return deliveryAddressId == null;
     }
 
+    /**
+     * productId 목록과 orderProducts 목록을 합쳐 상품 id 별 주문 수량을 반환하는 메서드 (요청 순서 유지)
+     *
+     * 상품별 수량(1개 이상)은 OrderProductRequestDto 의 @Min 으로 요청 시 검증합니다.
+     *
+     * @return 상품 id 별 주문 수량
+     */
+    public Map<UUID, Integer> quantityByProductId() {
+        Map<UUID, Integer> quantityByProductId = new LinkedHashMap<>();
+        if (productId != null) {
+            for (UUID id : productId) {
+                quantityByProductId.merge(id, 1, Integer::sum);
+            }
+        }
+        if (orderProducts != null) {
+            for (OrderProductRequestDto orderProduct : orderProducts) {
+                quantityByProductId.merge(orderProduct.getProductId(), orderProduct.getQuantity(), Integer::sum);
+            }
+        }
+        return quantityByProductId;
+    }
+
     public Order toOrder(Stores store, DeliveryAddress deliveryAddress, User user) {
         return Order.builder()
                 .orderTime(LocalDateTime.now())
@@ -23,4 +23,6 @@ public class OrderResponseDto {
     private UUID user;
     private UUID deliveryAddressId;
     private List<UUID> productIdList;
+    private List<OrderProductResponseDto> orderProducts;
+    private int totalPrice;
 }
@@ -0,0 +1,27 @@
+package com.sparta.delivery.domain.order.dto;
+
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 주문 상태 변경 전 확인용 (현재 주문 상태와 가게 주인 id), 변경 후 응답과 이벤트 발행에도 사용
+@Getter
+@AllArgsConstructor
+public class OrderStatusDto {
+    private UUID orderId;
+    private OrderStatus orderStatus;
+    private UUID storeId;
+    private UUID userId;
+    private UUID storeOwnerId;
+
+    // 주문 상태만 next 로 바꾼 값
+    public OrderStatusDto changedTo(OrderStatus next) {
+        return new OrderStatusDto(orderId, next, storeId, userId, storeOwnerId);
+    }
+
+    public OrderStatusResponseDto toResponseDto() {
+        return new OrderStatusResponseDto(orderId, orderStatus);
+    }
+}
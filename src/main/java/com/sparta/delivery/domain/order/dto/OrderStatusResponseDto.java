@@ -0,0 +1,15 @@
+package com.sparta.delivery.domain.order.dto;
+
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.UUID;
+
+// 주문 상태 변경 응답
+@Getter
+@AllArgsConstructor
+public class OrderStatusResponseDto {
+    private UUID orderId;
+    private OrderStatus orderStatus;
+}
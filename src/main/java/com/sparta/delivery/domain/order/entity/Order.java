@@ -4,6 +4,7 @@ import com.sparta.delivery.domain.common.Timestamped;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
 import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import com.sparta.delivery.domain.order.dto.OrderProductResponseDto;
 import com.sparta.delivery.domain.order.dto.OrderResponseDto;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
@@ -15,6 +16,7 @@ import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -27,7 +29,15 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
-@Table(name = "p_order")
+// 변경한 컬럼만 update (결제, 취소가 조건부 update 로 바꾼 주문 상태를 엔티티 저장이 이전 값으로 덮어쓰지 않도록)
+@DynamicUpdate
+@Table(name = "p_order", indexes = {
+        // 커서 기반 주문 목록 조회용 (가게 / 주문자별 주문 시간, 주문 id 순)
+        @Index(name = "idx_order_store_order_time", columnList = "store_id, order_time, order_id"),
+        @Index(name = "idx_order_user_order_time", columnList = "user_id, order_time, order_id"),
+        // 결제 시간이 지난 결제 대기 주문 조회용 (UnpaidOrderSweeper)
+        @Index(name = "idx_order_status_order_time", columnList = "order_status, order_time")
+})
 public class Order extends Timestamped {
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
@@ -47,21 +57,22 @@ public class Order extends Timestamped {
     @Column
     private String requirements;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "storeId", nullable = false)
     private Stores stores;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "userId", nullable = false)
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "deliveryAddressId")
     private DeliveryAddress deliveryAddress;
 
     //주문상품 테이블과의 연관관계 매핑. 필요 시 사용
     @OneToMany(mappedBy = "order", orphanRemoval = true, cascade = CascadeType.ALL)
-    private List<OrderProduct> orderProductList;
+    @Builder.Default
+    private List<OrderProduct> orderProductList = new ArrayList<>();
 
     public void updateOrderProductList(List<OrderProduct> newList) {
         orderProductList.clear();
@@ -77,6 +88,26 @@ public class Order extends Timestamped {
         return productIdList;
     }
 
+    private List<OrderProductResponseDto> getOrderProductResponseList() {
+        List<OrderProductResponseDto> orderProducts = new ArrayList<>();
+        for(OrderProduct orderProduct : this.getOrderProductList()) {
+            orderProducts.add(new OrderProductResponseDto(
+                    orderProduct.getProduct().getProductId(),
+                    orderProduct.getQuantity(),
+                    orderProduct.getOrderedUnitPrice()));
+        }
+        return orderProducts;
+    }
+
+    // 주문 총 금액 (주문 시점 단가 x 수량의 합)
+    public int getTotalPrice() {
+        int totalPrice = 0;
+        for(OrderProduct orderProduct : this.getOrderProductList()) {
+            totalPrice += orderProduct.getLinePrice();
+        }
+        return totalPrice;
+    }
+
     public OrderListResponseWithReviewDto toResponseListDto(ReviewResponseDto review) {
         return new OrderListResponseWithReviewDto(
                 this.orderId,
@@ -113,7 +144,9 @@ public class Order extends Timestamped {
                 this.stores.getStoreId(),
                 this.user.getUserId(),
                 this.deliveryAddress != null ? this.deliveryAddress.getDeliveryAddressId() : null,
-                getProductIdList()
+                getProductIdList(),
+                getOrderProductResponseList(),
+                getTotalPrice()
         );
     }
 
@@ -0,0 +1,6 @@
+package com.sparta.delivery.domain.order.enums;
+
+public enum OrderEventType {
+    //주문 생성, 주문 상태 변경(사장님 상태 수정), 주문 취소, 결제 완료
+    ORDER_CREATED, ORDER_STATUS_CHANGED, ORDER_CANCELED, PAYMENT_COMPLETED
+}
@@ -1,6 +1,45 @@
 package com.sparta.delivery.domain.order.enums;
 
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
 public enum OrderStatus {
     //결제 대기중, 결제 완료, 주문 진행중, 배달중, 배달완료/픽업완료, 주문 취소
-    PAYMENT_WAIT, PAYMENT_COMPLETE, ORDER_IN, DELIVERING, ORDER_COMPLETE, ORDER_CANCEL
+    PAYMENT_WAIT, PAYMENT_COMPLETE, ORDER_IN, DELIVERING, ORDER_COMPLETE, ORDER_CANCEL;
+
+    // 상태별로 변경 가능한 다음 상태 (배달완료/픽업완료, 주문 취소는 더 이상 변경 불가)
+    private static final Map<OrderStatus, Set<OrderStatus>> TRANSITIONS = new EnumMap<>(OrderStatus.class);
+
+    static {
+        TRANSITIONS.put(PAYMENT_WAIT, EnumSet.of(PAYMENT_COMPLETE, ORDER_CANCEL));
+        TRANSITIONS.put(PAYMENT_COMPLETE, EnumSet.of(ORDER_IN, ORDER_CANCEL));
+        // 포장 주문은 배달 없이 바로 픽업완료
+        TRANSITIONS.put(ORDER_IN, EnumSet.of(DELIVERING, ORDER_COMPLETE, ORDER_CANCEL));
+        TRANSITIONS.put(DELIVERING, EnumSet.of(ORDER_COMPLETE));
+        TRANSITIONS.put(ORDER_COMPLETE, EnumSet.noneOf(OrderStatus.class));
+        TRANSITIONS.put(ORDER_CANCEL, EnumSet.noneOf(OrderStatus.class));
+    }
+
+    // 가게(점주, 관리자)가 주문 상태 변경으로 바꿀 수 있는 상태 (결제 완료는 결제로만 변경)
+    private static final Set<OrderStatus> STORE_UPDATABLE = EnumSet.of(ORDER_IN, DELIVERING, ORDER_COMPLETE, ORDER_CANCEL);
+
+    public boolean isStoreUpdatable() {
+        return STORE_UPDATABLE.contains(this);
+    }
+
+    public boolean canTransitionTo(OrderStatus next) {
+        return TRANSITIONS.get(this).contains(next);
+    }
+
+    // next 로 변경할 수 있는 상태 목록 (조건부 update 의 order_status in 조건)
+    public static Set<OrderStatus> sourcesOf(OrderStatus next) {
+        Set<OrderStatus> sources = EnumSet.noneOf(OrderStatus.class);
+        TRANSITIONS.forEach((status, nextStatuses) -> {
+            if (nextStatuses.contains(next))
+                sources.add(status);
+        });
+        return sources;
+    }
 }
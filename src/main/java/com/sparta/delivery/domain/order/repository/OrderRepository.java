@@ -2,25 +2,98 @@ package com.sparta.delivery.domain.order.repository;
 
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPredicateExecutor<Order> {
+public interface OrderRepository extends JpaRepository<Order, UUID>, QuerydslPredicateExecutor<Order>, OrderRepositoryCustom {
+    // 단일 주문 응답에 필요한 주문 상품까지 함께 조회
+    @EntityGraph(attributePaths = "orderProductList")
     Optional<Order> findByOrderIdAndDeletedAtIsNull(UUID orderId);
     Page<Order> findAllByUserAndDeletedAtIsNull(User user, Pageable pageable);
     Page<Order> findAllByStoresAndDeletedAtIsNull(Stores store, Pageable pageable);
+    // 주문 변경, 취소 시 재고를 되돌릴 주문 상품까지 함께 조회
+    @EntityGraph(attributePaths = "orderProductList")
     Optional<Order> findByOrderIdAndUserAndDeletedAtIsNull(UUID orderId, User user);
 
+    // 주문 변경 시 변경이 끝날 때까지 결제, 취소가 끼어들지 않도록 본인 주문을 잠금 (주문 상품은 잠금 후 지연 로딩)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from Order o where o.orderId = :orderId and o.user = :user and o.deletedAt is null")
+    Optional<Order> findByOrderIdAndUserForUpdate(@Param("orderId") UUID orderId, @Param("user") User user);
+
     Page<Order> findByUserAndDeletedAtIsNullAndStoresInAndDeliveryAddressInOrderByCreatedAtAsc(User user, List<Stores> stores, List<DeliveryAddress> deliveryAddresses, Pageable pageable);
 
+    // 주문 상태가 expected 일 때만 next 로 변경 (0 이면 그 사이 다른 요청이 상태를 바꿨거나 주문이 없음)
+    // 영속성 컨텍스트에 남아 있는 주문이 이전 상태를 반환하지 않도록 실행 후 비움
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :next " +
+            "where o.orderId = :orderId and o.orderStatus = :expected and o.deletedAt is null")
+    int compareAndSetOrderStatus(@Param("orderId") UUID orderId,
+                                 @Param("expected") OrderStatus expected,
+                                 @Param("next") OrderStatus next);
+
+    // 주문 시간이 orderedAfter 이후이고 취소 가능한 상태(cancelable)인 본인 주문만 취소 (취소되었으면 1 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :canceled, o.deletedAt = :now, o.deletedBy = :username " +
+            "where o.orderId = :orderId and o.user.userId = :userId and o.deletedAt is null " +
+            "and o.orderTime >= :orderedAfter and o.orderStatus in :cancelable")
+    int cancelOrder(@Param("orderId") UUID orderId,
+                    @Param("userId") UUID userId,
+                    @Param("orderedAfter") LocalDateTime orderedAfter,
+                    @Param("cancelable") Collection<OrderStatus> cancelable,
+                    @Param("canceled") OrderStatus canceled,
+                    @Param("now") LocalDateTime now,
+                    @Param("username") String username);
+
+    // 가게가 주문을 취소 (조회한 상태 expected 가 그대로일 때만, 취소되었으면 1 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :canceled, o.deletedAt = :now, o.deletedBy = :username " +
+            "where o.orderId = :orderId and o.orderStatus = :expected and o.deletedAt is null")
+    int cancelStoreOrder(@Param("orderId") UUID orderId,
+                         @Param("expected") OrderStatus expected,
+                         @Param("canceled") OrderStatus canceled,
+                         @Param("now") LocalDateTime now,
+                         @Param("username") String username);
+
+    // 취소된 주문을 포함해 주문 상품과 함께 조회 (취소 후 재고 반환, 이벤트 발행용)
+    @EntityGraph(attributePaths = "orderProductList")
+    Optional<Order> findWithOrderProductListByOrderId(UUID orderId);
+
+    // 여러 주문을 상태가 expected 일 때만 취소 (취소된 주문 수 반환)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("update Order o set o.orderStatus = :canceled, o.deletedAt = :now, o.deletedBy = :username " +
+            "where o.orderId in :orderIds and o.orderStatus = :expected and o.deletedAt is null")
+    int cancelOrders(@Param("orderIds") Collection<UUID> orderIds,
+                     @Param("expected") OrderStatus expected,
+                     @Param("canceled") OrderStatus canceled,
+                     @Param("now") LocalDateTime now,
+                     @Param("username") String username);
 
+    // cutoff 이전에 주문한 orderStatus 주문을 오래된 순서대로 가져오면서 잠금 (다른 인스턴스가 잠근 행은 건너뜀 : SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from Order o " +
+            "where o.orderStatus = :orderStatus and o.orderTime < :cutoff and o.deletedAt is null order by o.orderTime")
+    List<Order> findStaleForUpdate(@Param("orderStatus") OrderStatus orderStatus,
+                                   @Param("cutoff") LocalDateTime cutoff,
+                                   Pageable pageable);
 }
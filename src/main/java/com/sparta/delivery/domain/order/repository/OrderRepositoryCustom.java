@@ -0,0 +1,29 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.sparta.delivery.domain.order.dto.OrderCursor;
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderStatusDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface OrderRepositoryCustom {
+    // 유저 주문 목록을 가게, 사용자, 배달지와 함께 조회 (가게, 배달지 id 목록이 비어 있으면 조건 없음)
+    Page<Order> searchUserOrders(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Pageable pageable);
+
+    // 가게 주문 목록을 엔티티 대신 목록 응답 DTO 로 조회
+    Page<OrderListResponseDto> searchStoreOrders(UUID storeId, Pageable pageable);
+
+    // 유저 주문 목록을 (주문 시간, 주문 id) 최신순으로 커서 다음부터 조회 (커서가 null 이면 첫 페이지)
+    List<Order> findUserOrdersByCursor(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, OrderCursor cursor, int limit);
+
+    // 가게 주문 목록을 (주문 시간, 주문 id) 최신순으로 커서 다음부터 목록 응답 DTO 로 조회
+    List<OrderListResponseDto> findStoreOrdersByCursor(UUID storeId, OrderCursor cursor, int limit);
+
+    // 주문 상태 변경 전 현재 상태와 가게 주인 id 만 조회 (주문, 가게 엔티티를 올리지 않음)
+    Optional<OrderStatusDto> findOrderStatus(UUID orderId);
+}
@@ -0,0 +1,182 @@
+package com.sparta.delivery.domain.order.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.order.dto.OrderCursor;
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderStatusDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.entity.QOrder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class OrderRepositoryImpl implements OrderRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QOrder order = QOrder.order;
+
+    /**
+     * 유저 주문 목록을 한 번의 쿼리로 조회하는 메서드
+     *
+     * 목록 응답에는 가게, 주문자, 배달지의 id 만 필요하므로 연관 엔티티는 join 하지 않습니다. (id 는 외래 키 컬럼에서 바로 읽음)
+     * 전체 개수는 별도의 count 쿼리로 조회하며, 마지막 페이지처럼 필요 없는 경우 생략됩니다.
+     */
+    @Override
+    public Page<Order> searchUserOrders(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.user.userId.eq(userId));
+        builder.and(order.deletedAt.isNull());
+
+        if (!storeIdList.isEmpty()) {
+            builder.and(order.stores.storeId.in(storeIdList));
+        }
+        if (!deliveryAddressIdList.isEmpty()) {
+            builder.and(order.deliveryAddress.deliveryAddressId.in(deliveryAddressIdList));
+        }
+
+        JPAQuery<Order> query = jpaQueryFactory.selectFrom(order)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        applySort(query, pageable);
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(order.count())
+                .from(order)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, countQuery::fetchOne);
+    }
+
+    // 상태 변경 권한, 전이 확인에 필요한 주문 상태와 가게, 주문자, 점주 id 만 조회 (엔티티를 영속성 컨텍스트에 올리지 않음)
+    @Override
+    public Optional<OrderStatusDto> findOrderStatus(UUID orderId) {
+        return Optional.ofNullable(jpaQueryFactory.select(Projections.constructor(OrderStatusDto.class,
+                        order.orderId,
+                        order.orderStatus,
+                        order.stores.storeId,
+                        order.user.userId,
+                        order.stores.user.userId))
+                .from(order)
+                .where(order.orderId.eq(orderId), order.deletedAt.isNull())
+                .fetchOne());
+    }
+
+    /**
+     * 가게 주문 목록을 응답 DTO 로 바로 조회하는 메서드
+     *
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽습니다. (가게, 주문자, 배달지 id 는 외래 키 컬럼에서 읽으므로 join 없음)
+     */
+    @Override
+    public Page<OrderListResponseDto> searchStoreOrders(UUID storeId, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.stores.storeId.eq(storeId));
+        builder.and(order.deletedAt.isNull());
+
+        JPAQuery<OrderListResponseDto> query = jpaQueryFactory.select(Projections.constructor(OrderListResponseDto.class,
+                        order.orderId,
+                        order.orderTime,
+                        order.orderType,
+                        order.orderStatus,
+                        order.requirements,
+                        order.stores.storeId,
+                        order.user.userId,
+                        order.deliveryAddress.deliveryAddressId))
+                .from(order)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        applySort(query, pageable);
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(order.count())
+                .from(order)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, countQuery::fetchOne);
+    }
+
+    /**
+     * 유저 주문 목록을 커서 위치 다음부터 limit 개 조회하는 메서드
+     *
+     * (주문 시간, 주문 id) 최신순으로 정렬하고 커서보다 앞선 주문만 조회하므로 offset 스캔과 count 쿼리가 없습니다.
+     * (userId, orderTime, orderId) 인덱스를 사용합니다.
+     */
+    @Override
+    public List<Order> findUserOrdersByCursor(UUID userId, List<UUID> storeIdList, List<UUID> deliveryAddressIdList, OrderCursor cursor, int limit) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.user.userId.eq(userId));
+        builder.and(order.deletedAt.isNull());
+        builder.and(afterCursor(cursor));
+
+        if (!storeIdList.isEmpty()) {
+            builder.and(order.stores.storeId.in(storeIdList));
+        }
+        if (!deliveryAddressIdList.isEmpty()) {
+            builder.and(order.deliveryAddress.deliveryAddressId.in(deliveryAddressIdList));
+        }
+
+        return jpaQueryFactory.selectFrom(order)
+                .where(builder)
+                .orderBy(order.orderTime.desc(), order.orderId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 가게 주문 목록을 커서 위치 다음부터 limit 개 목록 응답 DTO 로 조회 ((storeId, orderTime, orderId) 인덱스 사용)
+    @Override
+    public List<OrderListResponseDto> findStoreOrdersByCursor(UUID storeId, OrderCursor cursor, int limit) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(order.stores.storeId.eq(storeId));
+        builder.and(order.deletedAt.isNull());
+        builder.and(afterCursor(cursor));
+
+        return jpaQueryFactory.select(Projections.constructor(OrderListResponseDto.class,
+                        order.orderId,
+                        order.orderTime,
+                        order.orderType,
+                        order.orderStatus,
+                        order.requirements,
+                        order.stores.storeId,
+                        order.user.userId,
+                        order.deliveryAddress.deliveryAddressId))
+                .from(order)
+                .where(builder)
+                .orderBy(order.orderTime.desc(), order.orderId.desc())
+                .limit(limit)
+                .fetch();
+    }
+
+    // 최신순 정렬에서 커서보다 뒤에 오는 주문 조건 (첫 페이지면 조건 없음)
+    private BooleanExpression afterCursor(OrderCursor cursor) {
+        if (cursor == null)
+            return null;
+
+        return order.orderTime.lt(cursor.getOrderTime())
+                .or(order.orderTime.eq(cursor.getOrderTime()).and(order.orderId.lt(cursor.getOrderId())));
+    }
+
+    // PathBuilder를 이용하여 요청한 정렬 컬럼을 동적으로 지정
+    private void applySort(JPAQuery<?> query, Pageable pageable) {
+        PathBuilder<Order> entityPath = new PathBuilder<>(Order.class, order.getMetadata());
+        for (Sort.Order sortOrder : pageable.getSort()) {
+            query.orderBy(new OrderSpecifier<>(
+                    sortOrder.isAscending() ? com.querydsl.core.types.Order.ASC : com.querydsl.core.types.Order.DESC,
+                    Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())));
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.sparta.delivery.domain.order.service;
+
+import com.sparta.delivery.domain.order.dto.OrderStatusDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 주문 생성, 취소, 상태 변경, 결제 완료 이벤트 발행
+ *
+ * 주문 변경과 같은 트랜잭션에서 outbox 에 기록만 하고, OrderOutboxRelay 가 커밋된 이벤트를 구독자(가게 주문 피드 등)와 broker 로 전달합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventPublisher {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    // 주문을 변경하는 트랜잭션 안에서만 호출 (트랜잭션이 없으면 예외)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(Order order, OrderEventType eventType) {
+        orderOutboxRepository.save(OrderOutbox.of(order, eventType));
+    }
+
+    // 주문 엔티티를 조회하지 않고 상태 변경 이벤트 발행 (주문 상태 변경)
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(OrderStatusDto order, OrderEventType eventType) {
+        orderOutboxRepository.save(OrderOutbox.of(order, eventType));
+    }
+}
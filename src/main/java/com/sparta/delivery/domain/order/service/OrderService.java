@@ -1,20 +1,19 @@
 package com.sparta.delivery.domain.order.service;
 
-import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.global.exception.custom.OrderNotFoundException;
 import com.sparta.delivery.config.global.exception.custom.*;
 import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
 import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
 import com.sparta.delivery.domain.order.dto.*;
 import com.sparta.delivery.domain.order.entity.Order;
-import com.sparta.delivery.domain.order.entity.QOrder;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
 import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.interfaces.StockReservation;
 import com.sparta.delivery.domain.product.repository.ProductRepository;
-import com.sparta.delivery.domain.product.service.ProductService;
 import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
 import com.sparta.delivery.domain.review.entity.Review;
 import com.sparta.delivery.domain.review.repository.ReviewRepository;
@@ -22,32 +21,40 @@ import com.sparta.delivery.domain.store.entity.Stores;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.codec.ServerSentEvent;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import reactor.core.publisher.Flux;
+
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class OrderService {
+    private static final Duration CANCEL_WINDOW = Duration.ofMinutes(5); // 주문 후 취소 가능한 시간
+
     private final OrderRepository orderRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final DeliveryAddressRepository deliveryAddressRepository;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
     private final ReviewRepository reviewRepository;
 
-    private final ProductService productService;
+    private final StockReservation stockReservation;
+    private final StoreOrderFeed storeOrderFeed;
+    private final OrderEventPublisher orderEventPublisher;
 
+    @Transactional
     public Order createOrder(OrderRequestDto requestDto, String username) {
         try {
             User user = getUser(username);
@@ -56,20 +63,20 @@ public class OrderService {
                 deliveryAddress = getDeliveryAddress(requestDto.getDeliveryAddressId());
             }
             Stores store = getStores(requestDto.getStoreId());
-            List<Product> productList = getProductList(requestDto.getProductId());
-            List<OrderProduct> orderProductList = new ArrayList<>();
+            Map<UUID, Integer> quantityByProductId = requestDto.quantityByProductId();
+            List<Product> productList = getProductList(quantityByProductId);
+            validateStoreProducts(productList, store);
+
+            //주문 상품 재고 예약, 상품별로 한 번 (주문이 롤백되면 함께 반환)
+            stockReservation.reserve(quantityByProductId);
 
             Order order = requestDto.toOrder(store, deliveryAddress, user);
-            for(Product product : productList) {
-                if(product.getStore().getStoreId() != store.getStoreId()) {
-                    throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
-                }
-                //주문 상품 수량 -1
-                productService.updateProductQuantity(product, -1);
-                orderProductList.add(new OrderProduct(order, product));
-            }
-            order.setOrderProductList(orderProductList);
-            return orderRepository.save(order);
+            order.setOrderProductList(toOrderProductList(order, productList, quantityByProductId));
+            Order savedOrder = orderRepository.save(order);
+
+            //같은 트랜잭션에서 outbox 기록, 커밋된 뒤 가게 주문 피드로 전달
+            orderEventPublisher.publish(savedOrder, OrderEventType.ORDER_CREATED);
+            return savedOrder;
         }
         catch (Exception e) {
             throw e;
@@ -87,39 +94,26 @@ public class OrderService {
         try {
             User user = getUser(username);
 
-            List<Stores> storeList = new ArrayList<>();
-            for(UUID storeId : storeIdList)
-                storeList.add(getStores(storeId));
+            //조건으로 받은 가게, 배달지가 존재하는지 각각 count 쿼리 한 번으로 확인 (엔티티는 조회하지 않음)
+            validateStoreIds(storeIdList);
+            validateDeliveryAddressIds(deliveryAddressIdList);
 
-            List<DeliveryAddress> deliveryAddressList = new ArrayList<>();
-            for(UUID deliveryAddressId : deliveryAddressIdList)
-                deliveryAddressList.add(getDeliveryAddress(deliveryAddressId));
-
-            QOrder qOrder = QOrder.order;
-
-            BooleanBuilder builder = new BooleanBuilder();
-            builder.and(qOrder.user.eq(user));
-            builder.and(qOrder.deletedAt.isNull());
-
-            if(!storeList.isEmpty() && storeList != null) {
-                builder.and(qOrder.stores.in(storeList));
-            }
-            if(!deliveryAddressList.isEmpty() && deliveryAddressList != null) {
-                builder.and(qOrder.deliveryAddress.in(deliveryAddressList));
-            }
-
-            Page<Order> userOrderList = orderRepository.findAll(builder, pageable);
+            //주문 목록은 가게, 주문자, 배달지와 함께 쿼리 한 번으로 조회
+            Page<Order> userOrderList = orderRepository.searchUserOrders(user.getUserId(), storeIdList, deliveryAddressIdList, pageable);
 
             if(userOrderList.isEmpty()) {
-                if(storeList.isEmpty() && deliveryAddressList.isEmpty())
+                if(storeIdList.isEmpty() && deliveryAddressIdList.isEmpty())
                     throw new OrderNotFoundException("주문 내역이 없습니다.");
 
                 throw new OrderNotFoundException("조건에 해당하는 주문이 없습니다.");
             }
 
-            //가게 고유값으로 호출하면 리뷰까지 같이.
+            //가게 고유값으로 호출하면 리뷰까지 같이. (페이지의 리뷰를 IN 쿼리 한 번으로 조회)
+            Map<UUID, Review> reviewByOrderId = reviewRepository.findAllByOrderIn(userOrderList.getContent()).stream()
+                    .collect(Collectors.toMap(review -> review.getOrder().getOrderId(), Function.identity()));
+
             return userOrderList.map(order -> {
-                Review review = reviewRepository.findByOrder(order).orElse(null);
+                Review review = reviewByOrderId.get(order.getOrderId());
                 ReviewResponseDto reviewDto = (review != null) ? review.toResponseDto() : null;
 
                 return order.toResponseListDto(reviewDto);
@@ -129,6 +123,46 @@ public class OrderService {
         }
     }
 
+    // 커서 기반 유저 주문 목록 조회 (전체 개수는 조회하지 않고 다음 페이지 여부만 확인하기 위해 size + 1 개 조회)
+    @Transactional(readOnly = true)
+    public OrderCursorPageResponseDto<OrderListResponseWithReviewDto> getUserOrderCursor(String username, String cursor, int size, List<UUID> storeIdList, List<UUID> deliveryAddressIdList) {
+        try {
+            User user = getUser(username);
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+
+            validateStoreIds(storeIdList);
+            validateDeliveryAddressIds(deliveryAddressIdList);
+
+            List<Order> userOrderList = orderRepository.findUserOrdersByCursor(user.getUserId(), storeIdList, deliveryAddressIdList, orderCursor, size + 1);
+
+            if(userOrderList.isEmpty() && orderCursor == null) {
+                if(storeIdList.isEmpty() && deliveryAddressIdList.isEmpty())
+                    throw new OrderNotFoundException("주문 내역이 없습니다.");
+
+                throw new OrderNotFoundException("조건에 해당하는 주문이 없습니다.");
+            }
+
+            OrderCursorPageResponseDto<Order> orderPage = OrderCursorPageResponseDto.of(userOrderList, size,
+                    order -> new OrderCursor(order.getOrderTime(), order.getOrderId()));
+
+            Map<UUID, Review> reviewByOrderId = reviewRepository.findAllByOrderIn(orderPage.getContent()).stream()
+                    .collect(Collectors.toMap(review -> review.getOrder().getOrderId(), Function.identity()));
+
+            List<OrderListResponseWithReviewDto> content = orderPage.getContent().stream()
+                    .map(order -> {
+                        Review review = reviewByOrderId.get(order.getOrderId());
+                        return order.toResponseListDto(review != null ? review.toResponseDto() : null);
+                    })
+                    .toList();
+
+            return new OrderCursorPageResponseDto<>(content, orderPage.getNextCursor(), orderPage.isHasNext());
+        } catch (Exception e) {
+            throw e;
+        }
+    }
+
+    // 목록 DTO 를 컬럼에서 바로 조회하므로 읽기 전용 트랜잭션으로 실행 (flush, dirty checking 없음)
+    @Transactional(readOnly = true)
     public Page<OrderListResponseDto> getStoreOrderList(UUID storeId, Pageable pageable, String username) {
         try {
             User owner  = getUser(username);
@@ -137,40 +171,76 @@ public class OrderService {
             if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
                 throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
             }
-            Page<Order> storeOrderList = orderRepository.findAllByStoresAndDeletedAtIsNull(store, pageable);
+            Page<OrderListResponseDto> storeOrderList = orderRepository.searchStoreOrders(store.getStoreId(), pageable);
 
             if(storeOrderList.isEmpty()) {
                 throw new OrderNotFoundException("해당 가게에 존재하는 주문건이 없습니다.");
             }
-            return storeOrderList.map(Order::toResponseListDto);
+            return storeOrderList;
         } catch (Exception e) {
             throw e;
         }
     }
 
+    // 커서 기반 가게 주문 목록 조회 (목록 DTO 를 컬럼에서 바로 조회, count 쿼리 없음)
+    @Transactional(readOnly = true)
+    public OrderCursorPageResponseDto<OrderListResponseDto> getStoreOrderCursor(UUID storeId, String cursor, int size, String username) {
+        try {
+            User owner  = getUser(username);
+            Stores store = getStores(storeId);
+            OrderCursor orderCursor = OrderCursor.decode(cursor);
+
+            if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+                throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
+            }
+            List<OrderListResponseDto> storeOrderList = orderRepository.findStoreOrdersByCursor(store.getStoreId(), orderCursor, size + 1);
+
+            if(storeOrderList.isEmpty() && orderCursor == null) {
+                throw new OrderNotFoundException("해당 가게에 존재하는 주문건이 없습니다.");
+            }
+            return OrderCursorPageResponseDto.of(storeOrderList, size,
+                    order -> new OrderCursor(order.getOrderTime(), order.getOrderId()));
+        } catch (Exception e) {
+            throw e;
+        }
+    }
+
+    /**
+     * 가게 주문 이벤트(SSE) 구독
+     *
+     * 가게 주문 목록 조회와 같은 권한으로 확인한 뒤, 주문 생성과 상태 변경 이벤트를 실시간으로 전달합니다.
+     * lastEventId 가 있으면 그 이후의 이벤트부터 이어서 전달합니다.
+     */
+    public Flux<ServerSentEvent<OrderEventDto>> getStoreOrderFeed(UUID storeId, String lastEventId, String username) {
+        User owner  = getUser(username);
+        Stores store = getStores(storeId);
+
+        if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+            throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 가게 주문을 조회할 수 없습니다.");
+        }
+        return storeOrderFeed.subscribe(store.getStoreId(), lastEventId);
+    }
+
     @Transactional
     public Order deleteOrder(UUID orderId, String username) {
         try {
             User user = getUser(username);
-            Order order = getUserOrder(orderId, user);
-
-            //주문 시간으로부터 5분 이내일때만 취소 가능
             LocalDateTime now = LocalDateTime.now();
-            if(Duration.between(order.getOrderTime(), now).toMinutes() <= Long.valueOf(5)) {
-                //주문 취소 상품 수량 + 1
-                for(OrderProduct product : order.getOrderProductList()) {
-                    productService.updateProductQuantity(product.getProduct(), 1);
-                }
 
-                order.setOrderStatus(OrderStatus.ORDER_CANCEL);
-                order.setDeletedAt(now);
-                order.setDeletedBy(username);
+            //주문 시간으로부터 5분 이내, 취소 가능한 상태일 때만 조건부 update 한 번으로 취소
+            //결제와 동시에 요청되어도 둘 중 나중에 실행된 update 는 바뀐 상태를 보고 판단
+            int canceled = orderRepository.cancelOrder(orderId, user.getUserId(), now.minus(CANCEL_WINDOW),
+                    OrderStatus.sourcesOf(OrderStatus.ORDER_CANCEL), OrderStatus.ORDER_CANCEL, now, username);
 
-                return orderRepository.save(order);
-            }
-            else {
+            if(canceled == 0) {
+                Order order = getUserOrder(orderId, user);
+                if(!order.getOrderStatus().canTransitionTo(OrderStatus.ORDER_CANCEL)) {
+                    throw new OrderModificationNotAllowedException("취소할 수 없는 주문 상태입니다.");
+                }
                 throw new OrderModificationNotAllowedException("주문 취소 가능 시간이 지났습니다.");
             }
+
+            return releaseCanceledOrder(orderId);
         } catch (Exception e) {
             throw e;
         }
@@ -180,38 +250,35 @@ public class OrderService {
     public OrderResponseDto updateOrder(OrderRequestDto requestDto, UUID orderId, String username) {
         try {
             User user = getUser(username);
+
+            //주문 행을 잠가 변경이 끝날 때까지 결제, 취소가 끼어들지 않도록 함 (취소 주문건은 걸러 옴)
+            Order order = orderRepository.findByOrderIdAndUserForUpdate(orderId, user)
+                    .orElseThrow(() -> new UserOrderNotFoundException("해당 유저에 존재하지 않거나 취소된 주문입니다."));
+
             DeliveryAddress deliveryAddress = null;
             if(requestDto.getOrderType() == OrderType.DELIVERY) {
                 deliveryAddress = getDeliveryAddress(requestDto.getDeliveryAddressId());
             }
             Stores store = getStores(requestDto.getStoreId());
-            List<Product> productList = getProductList(requestDto.getProductId());
-            Order order = getUserOrder(orderId, user);
+            Map<UUID, Integer> quantityByProductId = requestDto.quantityByProductId();
+            List<Product> productList = getProductList(quantityByProductId);
 
             //결제 전일 때 주문 변경 가능
-            //취소 주문건은 위에서 걸러 옴
-            if(order.getOrderStatus().equals(OrderStatus.PAYMENT_WAIT))
+            if(order.getOrderStatus() == OrderStatus.PAYMENT_WAIT)
             {
                 order.setOrderType(requestDto.getOrderType());
                 order.setRequirements(requestDto.getRequirements());
                 order.setDeliveryAddress(deliveryAddress);
 
-                //주문 취소 상품 수량 +1
-                for(OrderProduct product : order.getOrderProductList()) {
-                    productService.updateProductQuantity(product.getProduct(), 1);
-                }
+                validateStoreProducts(productList, store);
 
-                //주문 상품 수량 -1
-                List<OrderProduct> orderProductList = new ArrayList<>();
-                for(Product product : productList) {
-                    if(product.getStore().getStoreId() != store.getStoreId()) {
-                        throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
-                    }
+                //기존 주문 상품 재고 반환
+                stockReservation.release(quantityByProductId(order));
 
-                    productService.updateProductQuantity(product, -1);
-                    orderProductList.add(new OrderProduct(order, product));
-                }
-                order.updateOrderProductList(orderProductList);
+                //변경된 주문 상품 재고 예약
+                stockReservation.reserve(quantityByProductId);
+
+                order.updateOrderProductList(toOrderProductList(order, productList, quantityByProductId));
             }
             else {
                 throw new OrderModificationNotAllowedException("결제 이후 주문 변경은 불가능합니다.");
@@ -226,38 +293,81 @@ public class OrderService {
     }
 
     @Transactional
-    public OrderResponseDto updateOrderStatus(UUID orderId, String username, OrderStatusRequestDto requestDto) {
+    public OrderStatusResponseDto updateOrderStatus(UUID orderId, String username, OrderStatusRequestDto requestDto) {
         try {
             User owner = getUser(username);
-            Order order = getOrder(orderId);
-            Stores store = getStores(order.getStores().getStoreId());
+            OrderStatusDto current = orderRepository.findOrderStatus(orderId)
+                    .orElseThrow(() -> new UserOrderNotFoundException("존재하지 않는 주문입니다."));
 
-            if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(store.getUser().getUserId())) {
+            if(owner.getRole() == UserRoles.ROLE_OWNER && !owner.getUserId().equals(current.getStoreOwnerId())) {
                 throw new NotStoreOwnerException("해당 가게의 주인이 아니므로 주문 상태를 수정할 수 없습니다.");
             }
 
-            order.setOrderStatus(requestDto.getUpdateStatus());
-            orderRepository.save(order);
+            OrderStatus next = requestDto.getUpdateStatus();
+            if(!next.isStoreUpdatable()) {
+                throw new OrderModificationNotAllowedException(String.format("주문 상태를 %s (으)로 직접 변경할 수 없습니다.", next));
+            }
 
-            return order.toResponseDto();
+            //가게 취소도 고객 취소와 같이 주문을 삭제 처리하고 재고 반환
+            if(next == OrderStatus.ORDER_CANCEL) {
+                cancelStoreOrder(orderId, current.getOrderStatus(), username);
+                releaseCanceledOrder(orderId);
+                return current.changedTo(next).toResponseDto();
+            }
+
+            changeOrderStatus(orderId, current.getOrderStatus(), next);
+
+            // 주문을 다시 조회하지 않고 변경 전 조회한 값과 변경된 상태로 응답, 이벤트 발행
+            OrderStatusDto changed = current.changedTo(next);
+            orderEventPublisher.publish(changed, OrderEventType.ORDER_STATUS_CHANGED);
+
+            return changed.toResponseDto();
 
         } catch (Exception e) {
             throw e;
         }
     }
 
-    private Order getUserOrder(UUID orderId, User user) {
-        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, user)
-                .orElseThrow(() -> new UserOrderNotFoundException("해당 유저에 존재하지 않거나 취소된 주문입니다."));
+    // 전이표에서 허용된 변경만, 조회한 상태(expected)가 그대로일 때 조건부 update 로 변경
+    // 0 건이면 그 사이 결제, 취소 등 다른 요청이 먼저 상태를 바꾼 것
+    private void changeOrderStatus(UUID orderId, OrderStatus expected, OrderStatus next) {
+        if(!expected.canTransitionTo(next)) {
+            throw new OrderStatusConflictException(String.format("주문 상태를 %s 에서 %s (으)로 변경할 수 없습니다.", expected, next));
+        }
+
+        if(orderRepository.compareAndSetOrderStatus(orderId, expected, next) == 0) {
+            throw new OrderStatusConflictException("주문 상태가 이미 변경되었습니다. 다시 조회한 뒤 시도해주세요.");
+        }
     }
 
-    private Order getOrder(UUID orderId) {
-        return orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)
+    // 조회한 상태(expected)가 그대로이고 취소 가능한 상태일 때만 조건부 update 로 취소
+    private void cancelStoreOrder(UUID orderId, OrderStatus expected, String username) {
+        if(!expected.canTransitionTo(OrderStatus.ORDER_CANCEL)) {
+            throw new OrderStatusConflictException(String.format("주문 상태를 %s 에서 %s (으)로 변경할 수 없습니다.", expected, OrderStatus.ORDER_CANCEL));
+        }
+
+        if(orderRepository.cancelStoreOrder(orderId, expected, OrderStatus.ORDER_CANCEL, LocalDateTime.now(), username) == 0) {
+            throw new OrderStatusConflictException("주문 상태가 이미 변경되었습니다. 다시 조회한 뒤 시도해주세요.");
+        }
+    }
+
+    // 취소된 주문 상품 재고를 상품별로 합산해 반환하고 취소 이벤트 발행 (고객 취소, 가게 취소 공통)
+    private Order releaseCanceledOrder(UUID orderId) {
+        Order canceledOrder = orderRepository.findWithOrderProductListByOrderId(orderId)
                 .orElseThrow(() -> new UserOrderNotFoundException("존재하지 않는 주문입니다."));
+        stockReservation.release(quantityByProductId(canceledOrder));
+
+        orderEventPublisher.publish(canceledOrder, OrderEventType.ORDER_CANCELED);
+        return canceledOrder;
+    }
+
+    private Order getUserOrder(UUID orderId, User user) {
+        return orderRepository.findByOrderIdAndUserAndDeletedAtIsNull(orderId, user)
+                .orElseThrow(() -> new UserOrderNotFoundException("해당 유저에 존재하지 않거나 취소된 주문입니다."));
     }
 
     private User getUser(String username) {
-        return userRepository.findByUsernameAndDeletedAtIsNull(username)
+        return userResolver.findUser(username)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않는 유저입니다."));
     }
 
@@ -271,19 +381,71 @@ public class OrderService {
                 .orElseThrow(() -> new StoreNotFoundException("존재하지 않는 가게입니다."));
     }
 
-    private List<Product> getProductList(List<UUID> productIdList) {
-        List<Product> productList = new ArrayList<>();
-        if(productIdList.size() == 0) {
+    private void validateStoreIds(List<UUID> storeIdList) {
+        if(storeIdList.isEmpty())
+            return;
+
+        Set<UUID> storeIds = new HashSet<>(storeIdList);
+        if(storeRepository.countByStoreIdInAndDeletedAtIsNull(storeIds) != storeIds.size()) {
+            throw new StoreNotFoundException("존재하지 않는 가게입니다.");
+        }
+    }
+
+    private void validateDeliveryAddressIds(List<UUID> deliveryAddressIdList) {
+        if(deliveryAddressIdList.isEmpty())
+            return;
+
+        Set<UUID> deliveryAddressIds = new HashSet<>(deliveryAddressIdList);
+        if(deliveryAddressRepository.countByDeliveryAddressIdInAndDeletedAtIsNull(deliveryAddressIds) != deliveryAddressIds.size()) {
+            throw new DeliveryAddressNotFoundException("존재하지 않는 배달 주소입니다.");
+        }
+    }
+
+    // 요청한 상품 목록을 IN 쿼리 한 번으로 조회 (요청 순서 유지)
+    private List<Product> getProductList(Map<UUID, Integer> quantityByProductId) {
+        if(quantityByProductId.isEmpty()) {
             throw new ProductSelectionRequiredException ("1개 이상의 상품을 선택해야합니다.");
         }
-        else {
-            for (UUID productId : productIdList) {
-                Product product = productRepository.findByProductIdAndDeletedAtIsNullAndHiddenFalse(productId)
-                        .orElseThrow(() -> new ProductNotFoundException("존재하지 않거나 품절된 상품입니다."));
 
-                productList.add(product);
+        Map<UUID, Product> productMap = productRepository.findAllByProductIdInAndDeletedAtIsNullAndHiddenFalse(quantityByProductId.keySet())
+                .stream()
+                .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+
+        List<Product> productList = new ArrayList<>();
+        for (UUID productId : quantityByProductId.keySet()) {
+            Product product = productMap.get(productId);
+            if (product == null) {
+                throw new ProductNotFoundException("존재하지 않거나 품절된 상품입니다.");
             }
+            productList.add(product);
         }
         return productList;
     }
+
+    // 모든 상품이 주문한 가게의 상품인지 메모리에서 검사 (store 프록시의 id 만 사용하므로 추가 조회 없음)
+    private void validateStoreProducts(List<Product> productList, Stores store) {
+        for (Product product : productList) {
+            if (!product.getStore().getStoreId().equals(store.getStoreId())) {
+                throw new NotStoreProductException("해당 가게의 상품이 아닙니다.");
+            }
+        }
+    }
+
+    // 상품별로 수량과 주문 시점 단가를 담은 주문 상품 한 행
+    private List<OrderProduct> toOrderProductList(Order order, List<Product> productList, Map<UUID, Integer> quantityByProductId) {
+        List<OrderProduct> orderProductList = new ArrayList<>();
+        for (Product product : productList) {
+            orderProductList.add(new OrderProduct(order, product, quantityByProductId.get(product.getProductId())));
+        }
+        return orderProductList;
+    }
+
+    // 기존 주문의 상품 id 별 주문 수량
+    private Map<UUID, Integer> quantityByProductId(Order order) {
+        Map<UUID, Integer> quantityByProductId = new LinkedHashMap<>();
+        for (OrderProduct orderProduct : order.getOrderProductList()) {
+            quantityByProductId.merge(orderProduct.getProduct().getProductId(), orderProduct.getQuantity(), Integer::sum);
+        }
+        return quantityByProductId;
+    }
 }
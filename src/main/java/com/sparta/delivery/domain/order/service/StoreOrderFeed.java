@@ -0,0 +1,190 @@
+package com.sparta.delivery.domain.order.service;
+
+import com.sparta.delivery.domain.order.dto.OrderEventDto;
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Component;
+import reactor.core.Disposable;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Sinks;
+import reactor.util.concurrent.Queues;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 가게별 주문 이벤트를 구독 중인 점주에게 SSE 로 전달하는 피드 (주문 목록 polling 대체)
+ *
+ * 1. OrderOutboxTailer 가 p_order_outbox 에서 읽어 전달하는 커밋된 주문 이벤트(OrderLifecycleEvent)를 가게 채널로 발행
+ *    - 모든 인스턴스가 같은 outbox 를 읽으므로 어느 인스턴스에서 기록된 이벤트든 전달 (롤백된 주문은 outbox 에 없으므로 발행되지 않음)
+ * 2. 가게 채널은 구독자마다 따로 전달 (가게 단위 fan-out)
+ *    - 채널은 이벤트를 보관하지 않고 구독 중인 구독자에게만 전달하며, 마지막 구독자가 끊기면 제거
+ * 3. 이벤트 id 는 outbox id 이며, 재연결 시 Last-Event-ID 이후의 이벤트를 outbox 에서 조회해 이어서 전달
+ *    - 인스턴스와 무관하므로 다른 인스턴스로 재연결해도 이어받을 수 있음 (outbox 보관 기간, 최대 replaySize 개까지)
+ * 4. 전달이 밀린 구독자는 subscriberBuffer 개까지만 쌓아 두고, 넘치면 스트림을 종료하여 Last-Event-ID 로 재연결하도록 함
+ */
+@Component
+public class StoreOrderFeed {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+
+    private final int replaySize; // 재연결 시 이어서 전달할 최대 이벤트 수
+    private final int subscriberBuffer; // 구독자별로 전달 대기할 수 있는 최대 이벤트 수
+    private final Duration heartbeat; // 연결 유지용 주석 전송 간격
+    private final Duration connectionTtl; // 한 연결의 최대 유지 시간 (지나면 종료, 클라이언트가 재연결)
+
+    // 구독자가 있는 가게별 채널
+    private final Map<UUID, Sinks.Many<OrderEventDto>> channels = new ConcurrentHashMap<>();
+
+    /**
+     * StoreOrderFeed 생성자
+     *
+     * @param orderOutboxRepository 재연결 시 이어서 전달할 이벤트를 조회할 outbox Repository
+     * @param meterRegistry 구독자, 채널 수 지표를 등록할 registry
+     * @param replaySize 재연결 시 이어서 전달할 최대 이벤트 수
+     * @param subscriberBuffer 구독자별로 전달 대기할 수 있는 최대 이벤트 수
+     * @param heartbeatMs 연결 유지용 주석 전송 간격
+     * @param connectionTtlMs 한 연결의 최대 유지 시간
+     */
+    public StoreOrderFeed(OrderOutboxRepository orderOutboxRepository,
+                          MeterRegistry meterRegistry,
+                          @Value("${spring.order.feed.replay-size:256}") int replaySize,
+                          @Value("${spring.order.feed.subscriber-buffer:256}") int subscriberBuffer,
+                          @Value("${spring.order.feed.heartbeat-ms:15000}") long heartbeatMs,
+                          @Value("${spring.order.feed.connection-ttl-ms:1800000}") long connectionTtlMs) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.replaySize = replaySize;
+        this.subscriberBuffer = subscriberBuffer;
+        this.heartbeat = Duration.ofMillis(heartbeatMs);
+        this.connectionTtl = Duration.ofMillis(connectionTtlMs);
+
+        Gauge.builder("order.feed.subscribers", channels,
+                        map -> map.values().stream().mapToInt(Sinks.Many::currentSubscriberCount).sum())
+                .description("가게 주문 피드 구독자 수")
+                .register(meterRegistry);
+        Gauge.builder("order.feed.channels", channels, Map::size)
+                .description("구독자가 있는 가게 주문 피드 채널 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * outbox tailer 가 전달한 주문 이벤트를 가게 채널로 발행하는 메서드
+     *
+     * 이벤트 내용(주문 상태, 발생 시각)은 outbox 에 기록된 시점 기준입니다.
+     * 구독자가 없는 가게의 이벤트는 발행하지 않습니다.
+     */
+    @EventListener
+    public void onOrderEvent(OrderLifecycleEvent event) {
+        Sinks.Many<OrderEventDto> sink = channels.get(event.getStoreId());
+        if (sink == null) {
+            return;
+        }
+
+        // 같은 가게 채널에는 한 스레드씩 발행하여 발행 순서와 전달 순서를 맞춤
+        synchronized (sink) {
+            sink.tryEmitNext(OrderEventDto.from(event));
+        }
+    }
+
+    /**
+     * 가게 주문 이벤트 스트림을 구독하는 메서드
+     *
+     * @param storeId 구독할 가게
+     * @param lastEventId 마지막으로 받은 이벤트 id (없거나 outbox 에서 정리된 id 면 구독 이후의 이벤트만 전달)
+     */
+    public Flux<ServerSentEvent<OrderEventDto>> subscribe(UUID storeId, String lastEventId) {
+        return Flux.defer(() -> {
+            // 조회 전에 채널을 구독하여, 조회 중에 발행된 이벤트도 받아 두었다가 조회 결과 다음에 전달
+            // 전달이 밀린 이벤트는 subscriberBuffer 개까지 쌓아 두고, 넘치면 overflowed 로 알림
+            Sinks.Many<OrderEventDto> received = Sinks.many().unicast()
+                    .onBackpressureBuffer(Queues.<OrderEventDto>get(subscriberBuffer).get());
+            Sinks.Empty<Void> overflowed = Sinks.empty();
+            Disposable connection = join(storeId, received, overflowed);
+
+            List<OrderEventDto> missed;
+            try {
+                missed = findMissedEvents(storeId, lastEventId);
+            } catch (RuntimeException e) {
+                leave(storeId, connection);
+                throw e;
+            }
+            Set<UUID> missedIds = missed.stream().map(OrderEventDto::getEventId).collect(Collectors.toSet());
+
+            Flux<ServerSentEvent<OrderEventDto>> events = Flux.fromIterable(missed)
+                    // 조회 결과와 채널에 모두 있는 이벤트는 한 번만 전달
+                    .concatWith(received.asFlux().filter(event -> !missedIds.contains(event.getEventId())))
+                    .map(event -> ServerSentEvent.builder(event)
+                            .id(String.valueOf(event.getEventId()))
+                            .event(event.getEventType().name())
+                            .build());
+
+            Flux<ServerSentEvent<OrderEventDto>> heartbeats = Flux.interval(heartbeat)
+                    .onBackpressureDrop()
+                    .map(tick -> ServerSentEvent.<OrderEventDto>builder().comment("keep-alive").build());
+
+            // 넘치면 쌓인 이벤트를 기다리지 않고 heartbeat 까지 바로 종료하여 클라이언트가 재연결하도록 함
+            return Flux.merge(events, heartbeats)
+                    .takeUntilOther(overflowed.asMono())
+                    .take(connectionTtl)
+                    .doFinally(signal -> leave(storeId, connection));
+        });
+    }
+
+    // Last-Event-ID 이후에 기록된 가게 이벤트 조회 (다른 인스턴스에서 받던 구독자도 이어받을 수 있도록 outbox 에서 조회)
+    private List<OrderEventDto> findMissedEvents(UUID storeId, String lastEventId) {
+        UUID lastOutboxId = parseEventId(lastEventId);
+        if (lastOutboxId == null) {
+            return List.of();
+        }
+        return orderOutboxRepository.findStoreEventsAfter(storeId, lastOutboxId, PageRequest.of(0, replaySize)).stream()
+                .map(OrderOutbox::toEvent)
+                .map(OrderEventDto::from)
+                .toList();
+    }
+
+    private UUID parseEventId(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return null;
+        }
+        try {
+            return UUID.fromString(lastEventId);
+        } catch (IllegalArgumentException e) {
+            // 이전 형식의 id 등 알 수 없는 id 는 구독 이후부터 전달
+            return null;
+        }
+    }
+
+    // 가게 채널을 구독하여 받은 이벤트를 구독자 sink 로 전달 (채널이 없으면 생성, 쌓아 둘 수 없으면 overflowed 완료)
+    private Disposable join(UUID storeId, Sinks.Many<OrderEventDto> received, Sinks.Empty<Void> overflowed) {
+        Disposable[] connection = {null};
+        // 채널 생성, 제거와 겹치지 않도록 compute 안에서 구독
+        channels.compute(storeId, (id, sink) -> {
+            Sinks.Many<OrderEventDto> channel = (sink != null) ? sink : Sinks.many().multicast().directBestEffort();
+            connection[0] = channel.asFlux().subscribe(event -> {
+                if (received.tryEmitNext(event) == Sinks.EmitResult.FAIL_OVERFLOW) {
+                    overflowed.tryEmitEmpty();
+                }
+            });
+            return channel;
+        });
+        return connection[0];
+    }
+
+    // 채널 구독을 해제하고, 마지막 구독자였으면 채널 제거
+    private void leave(UUID storeId, Disposable connection) {
+        connection.dispose();
+        channels.computeIfPresent(storeId, (id, sink) -> sink.currentSubscriberCount() == 0 ? null : sink);
+    }
+}
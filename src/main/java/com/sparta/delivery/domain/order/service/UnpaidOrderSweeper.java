@@ -0,0 +1,166 @@
+package com.sparta.delivery.domain.order.service;
+
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
+import com.sparta.delivery.domain.orderProduct.repository.OrderProductRepository;
+import com.sparta.delivery.domain.product.interfaces.StockReservation;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 결제 시간이 지난 결제 대기 주문을 주기적으로 취소하는 sweeper
+ *
+ * 1. (주문 상태, 주문 시간) index 로 timeout 이 지난 결제 대기 주문을 batchSize 개씩 잠금 조회 (SKIP LOCKED)
+ * 2. 주문 상품 수량을 상품별로 합산해 상품마다 update 한 번으로 재고 반환
+ * 3. 조회한 주문을 조건부 update 한 번으로 취소(주문 취소 상태, 삭제 시각, 삭제자 system)하고 주문 취소 이벤트 발행
+ * 4. batch 마다 별도 트랜잭션으로 커밋해 잠금을 짧게 유지
+ *
+ * 잠근 주문에 대한 결제 요청은 sweeper 가 커밋할 때까지 대기한 뒤 결제 대기 상태가 아니므로 실패합니다.
+ * 다른 컨테이너가 잠근 행은 건너뛰므로 두 backend 인스턴스가 동시에 실행해도 같은 주문을 두 번 취소하지 않습니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.order.unpaid-sweeper.enabled", havingValue = "true", matchIfMissing = true)
+public class UnpaidOrderSweeper {
+
+    private static final String CANCELED_BY = "system"; // 자동 취소한 주문의 삭제자 (Timestamped 의 비로그인 기본값)
+
+    private final OrderRepository orderRepository;
+    private final OrderProductRepository orderProductRepository;
+    private final StockReservation stockReservation;
+    private final OrderEventPublisher orderEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    private final long timeoutMs; // 주문 후 결제를 기다리는 시간
+    private final int batchSize; // 한 트랜잭션에서 취소할 최대 주문 수
+    private final int maxBatches; // 한 번 실행에서 처리할 최대 batch 수
+
+    private final Counter sweptCounter;
+    private final Timer runTimer;
+
+    /**
+     * UnpaidOrderSweeper 생성자
+     *
+     * @param orderRepository 주문 Repository
+     * @param orderProductRepository 취소할 주문의 상품 수량을 조회할 Repository
+     * @param stockReservation 취소한 주문의 재고를 반환할 재고 예약
+     * @param orderEventPublisher 주문 취소 이벤트 발행
+     * @param transactionTemplate batch 단위 트랜잭션을 위한 TransactionTemplate
+     * @param meterRegistry 취소된 주문 수와 실행 시간을 등록할 registry
+     * @param timeoutMs 주문 후 결제를 기다리는 시간
+     * @param batchSize 한 트랜잭션에서 취소할 최대 주문 수
+     * @param maxBatches 한 번 실행에서 처리할 최대 batch 수
+     */
+    public UnpaidOrderSweeper(OrderRepository orderRepository,
+                              OrderProductRepository orderProductRepository,
+                              StockReservation stockReservation,
+                              OrderEventPublisher orderEventPublisher,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${spring.order.unpaid-sweeper.timeout-ms:1800000}") long timeoutMs,
+                              @Value("${spring.order.unpaid-sweeper.batch-size:100}") int batchSize,
+                              @Value("${spring.order.unpaid-sweeper.max-batches:10}") int maxBatches) {
+        this.orderRepository = orderRepository;
+        this.orderProductRepository = orderProductRepository;
+        this.stockReservation = stockReservation;
+        this.orderEventPublisher = orderEventPublisher;
+        this.transactionTemplate = transactionTemplate;
+        this.timeoutMs = timeoutMs;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+
+        this.sweptCounter = meterRegistry.counter("order.unpaid.swept");
+        this.runTimer = meterRegistry.timer("order.unpaid.sweeper.duration");
+    }
+
+    @Scheduled(initialDelayString = "${spring.order.unpaid-sweeper.initial-delay-ms:30000}",
+            fixedDelayString = "${spring.order.unpaid-sweeper.interval-ms:60000}")
+    public void scheduledSweep() {
+        sweep();
+    }
+
+    /**
+     * 결제 시간이 지난 결제 대기 주문을 batch 단위로 취소하는 메서드
+     *
+     * @return 이번 실행에서 취소된 주문 수
+     */
+    public int sweep() {
+        long start = System.nanoTime();
+        LocalDateTime cutoff = LocalDateTime.now().minusNanos(timeoutMs * 1_000_000);
+        int swept = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            Integer batchSwept = transactionTemplate.execute(status -> sweepBatch(cutoff));
+            swept += batchSwept;
+
+            if (batchSwept < batchSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        sweptCounter.increment(swept);
+
+        if (swept > 0) {
+            log.info("Unpaid orders canceled. swept={}, elapsedMs={}", swept, elapsedNanos / 1_000_000);
+        }
+
+        return swept;
+    }
+
+    private int sweepBatch(LocalDateTime cutoff) {
+        List<Order> orders = orderRepository.findStaleForUpdate(OrderStatus.PAYMENT_WAIT, cutoff, PageRequest.of(0, batchSize));
+
+        if (orders.isEmpty()) {
+            return 0;
+        }
+
+        List<UUID> orderIds = orders.stream().map(Order::getOrderId).toList();
+        stockReservation.release(quantityByProductId(orderIds));
+
+        // 조회한 주문은 잠겨 있으므로 모두 취소되어야 함 (아니면 재고 반환까지 롤백)
+        LocalDateTime now = LocalDateTime.now();
+        int canceled = orderRepository.cancelOrders(orderIds, OrderStatus.PAYMENT_WAIT, OrderStatus.ORDER_CANCEL, now, CANCELED_BY);
+        if (canceled != orders.size()) {
+            throw new IllegalStateException("결제 대기 주문 취소 중 상태가 변경된 주문이 있습니다.");
+        }
+
+        // update 후 영속성 컨텍스트에서 분리된 주문이므로 이벤트 내용에만 반영
+        for (Order order : orders) {
+            order.setOrderStatus(OrderStatus.ORDER_CANCEL);
+            order.setDeletedAt(now);
+            order.setDeletedBy(CANCELED_BY);
+            orderEventPublisher.publish(order, OrderEventType.ORDER_CANCELED);
+        }
+
+        return orders.size();
+    }
+
+    // 취소할 주문들의 상품 id 별 주문 수량 합계
+    private Map<UUID, Integer> quantityByProductId(List<UUID> orderIds) {
+        Map<UUID, Integer> quantityByProductId = new LinkedHashMap<>();
+        for (OrderProduct orderProduct : orderProductRepository.findAllByOrder_OrderIdIn(orderIds)) {
+            quantityByProductId.merge(orderProduct.getProduct().getProductId(), orderProduct.getQuantity(), Integer::sum);
+        }
+        return quantityByProductId;
+    }
+}
@@ -86,6 +86,66 @@ public @interface OrderSwaggerDocs {
     )
     @interface getStoreOrder {}
 
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "유저 주문 커서 조회", description = "유저의 주문을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다.")
+    @Parameters({
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "404", description = "주문이 존재하지 않음"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @Parameter(
+            name = "Authorization",
+            description = "새로운 엑세스 토큰 (응답 헤더에서 반환)",
+            required = false
+    )
+    @interface getUserOrderCursor {}
+
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 주문 커서 조회", description = "가게의 주문을 최신순으로 커서 기반 조회합니다. 응답의 nextCursor 를 cursor 로 전달하면 다음 페이지를 조회합니다.")
+    @Parameters({
+            @Parameter(name = "storeId", description = "주문을 조회할 가게의 UUID", example = "f47ac10b-58cc-4372-a567-0e02b2c3d479"),
+            @Parameter(name = "cursor", description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 커서"),
+            @ApiResponse(responseCode = "403", description = "가게의 주인이 아님"),
+            @ApiResponse(responseCode = "404", description = "주문이 존재하지 않거나 가게 ID가 잘못됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @Parameter(
+            name = "Authorization",
+            description = "새로운 엑세스 토큰 (응답 헤더에서 반환)",
+            required = false
+    )
+    @interface getStoreOrderCursor {}
+
+    @Target({ElementType.METHOD})
+    @Retention(RetentionPolicy.RUNTIME)
+    @Operation(summary = "가게 주문 실시간 구독", description = "가게의 주문 생성, 상태 변경 이벤트를 SSE(text/event-stream)로 전달합니다. 재연결 시 Last-Event-ID 헤더로 마지막 이벤트 id 를 보내면 이후 이벤트부터 이어서 받습니다. 이벤트 id 는 인스턴스와 무관하므로 다른 서버로 재연결해도 이어서 받습니다.")
+    @Parameters({
+            @Parameter(name = "storeId", description = "구독할 가게의 UUID", example = "f47ac10b-58cc-4372-a567-0e02b2c3d479"),
+            @Parameter(name = "Last-Event-ID", description = "마지막으로 받은 이벤트 id (재연결 시)")
+    })
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "구독 성공"),
+            @ApiResponse(responseCode = "403", description = "가게의 주인이 아님"),
+            @ApiResponse(responseCode = "404", description = "가게 ID가 잘못됨"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @Parameter(
+            name = "Authorization",
+            description = "새로운 엑세스 토큰 (응답 헤더에서 반환)",
+            required = false
+    )
+    @interface getStoreOrderStream {}
+
     @Target({ElementType.METHOD})
     @Retention(RetentionPolicy.RUNTIME)
     @Operation(summary = "주문 삭제", description = "주문을 삭제합니다.")
@@ -135,7 +195,9 @@ public @interface OrderSwaggerDocs {
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "주문 상태 수정 성공"),
             @ApiResponse(responseCode = "400", description = "유효성 검증 실패"),
+            @ApiResponse(responseCode = "403", description = "가게 주인이 아니거나 가게가 변경할 수 없는 상태 (결제 완료는 결제로만 변경)"),
             @ApiResponse(responseCode = "404", description = "주문 ID가 잘못됨"),
+            @ApiResponse(responseCode = "409", description = "변경할 수 없는 상태이거나 다른 요청이 먼저 상태를 변경함"),
             @ApiResponse(responseCode = "500", description = "서버 오류")
     })
     @Parameter(
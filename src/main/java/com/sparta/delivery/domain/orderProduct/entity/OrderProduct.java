@@ -4,6 +4,7 @@ import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.product.entity.Product;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
 
 import java.util.UUID;
 
@@ -19,16 +20,37 @@ public class OrderProduct {
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID orderProductId;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orderId", nullable = false)
     private Order order;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "productId", nullable = false)
     private Product product;
 
-    public OrderProduct(Order order, Product product) {
+    // 주문 수량 (기존 행은 상품 1개당 1행이었으므로 1)
+    @ColumnDefault("1")
+    @Column(nullable = false)
+    @Builder.Default
+    private int quantity = 1;
+
+    // 주문 시점의 상품 단가 (이 컬럼이 추가되기 전의 행은 null)
+    @Column
+    private Integer unitPrice;
+
+    public OrderProduct(Order order, Product product, int quantity) {
         this.order = order;
         this.product = product;
+        this.quantity = quantity;
+        this.unitPrice = product.getPrice();
+    }
+
+    // 주문 시점 단가 (단가가 없는 기존 행은 현재 상품 가격)
+    public int getOrderedUnitPrice() {
+        return unitPrice != null ? unitPrice : product.getPrice();
+    }
+
+    public int getLinePrice() {
+        return getOrderedUnitPrice() * quantity;
     }
 }
@@ -4,9 +4,13 @@ import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
 public interface OrderProductRepository extends JpaRepository<OrderProduct, UUID> {
     List<OrderProduct> findByOrder(Order order);
+
+    // 여러 주문의 주문 상품을 IN 쿼리 한 번으로 조회
+    List<OrderProduct> findAllByOrder_OrderIdIn(Collection<UUID> orderIds);
 }
@@ -0,0 +1,22 @@
+package com.sparta.delivery.domain.outbox.dto;
+
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// outbox 에서 구독자와 broker 로 전달되는 주문 이벤트 (eventId 는 outbox id, 중복 전달 시 구독자가 걸러낼 때 사용)
+@Getter
+@AllArgsConstructor
+public class OrderLifecycleEvent {
+    private UUID eventId;
+    private OrderEventType eventType;
+    private UUID orderId;
+    private UUID storeId;
+    private UUID userId;
+    private OrderStatus orderStatus;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,128 @@
+package com.sparta.delivery.domain.outbox.entity;
+
+import com.sparta.delivery.domain.order.dto.OrderStatusDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * 주문 변경과 같은 트랜잭션에서 기록되는 주문 이벤트 outbox
+ *
+ * 주문이 커밋되면 이벤트도 함께 커밋되고, 롤백되면 함께 사라집니다.
+ * OrderOutboxRelay 가 전달하지 않은 행을 읽어 구독자와 broker 로 전달한 뒤 publishedAt 을 기록합니다.
+ * 전달에 실패하면 nextAttemptAt 까지 재시도를 미루고, 최대 횟수를 넘으면 deadLetteredAt 을 기록해 전달 대상에서 제외합니다.
+ */
+@Entity
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "p_order_outbox", indexes = {
+        // 전달하지 않은 이벤트를 발생 순서대로 조회, 전달한 이벤트 정리용
+        @Index(name = "idx_order_outbox_published_at", columnList = "published_at, occurred_at"),
+        // 인스턴스별 outbox tailer 조회용, SSE 재연결 시 가게 이벤트 조회용
+        @Index(name = "idx_order_outbox_occurred_at", columnList = "occurred_at"),
+        @Index(name = "idx_order_outbox_store_occurred_at", columnList = "store_id, occurred_at"),
+        // 전달을 포기한 이벤트 (dead letter) 수 집계용
+        @Index(name = "idx_order_outbox_dead_lettered_at", columnList = "dead_lettered_at")
+})
+public class OrderOutbox {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID outboxId;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OrderEventType eventType;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Column(name = "store_id", nullable = false)
+    private UUID storeId;
+
+    @Column(nullable = false)
+    private UUID userId;
+
+    // 이벤트 발생 시점의 주문 상태
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private OrderStatus orderStatus;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // 전달 완료 시각 (null 이면 전달 대기)
+    @Column(name = "published_at")
+    private LocalDateTime publishedAt;
+
+    // 전달 실패 횟수 (최대 횟수를 넘으면 더 이상 전달하지 않음)
+    @Column(nullable = false)
+    @ColumnDefault("0")
+    @Builder.Default
+    private int attempts = 0;
+
+    // 다음 전달 시도 가능 시각 (실패할 때마다 지수적으로 늦춤)
+    @Column(name = "next_attempt_at", nullable = false)
+    @ColumnDefault("CURRENT_TIMESTAMP")
+    @Builder.Default
+    private LocalDateTime nextAttemptAt = LocalDateTime.now();
+
+    // 최대 횟수만큼 실패해 전달을 포기한 시각 (dead letter, null 이면 전달 대상)
+    @Column(name = "dead_lettered_at")
+    private LocalDateTime deadLetteredAt;
+
+    public static OrderOutbox of(Order order, OrderEventType eventType) {
+        return of(eventType, order.getOrderId(), order.getStores().getStoreId(), order.getUser().getUserId(), order.getOrderStatus());
+    }
+
+    public static OrderOutbox of(OrderStatusDto order, OrderEventType eventType) {
+        return of(eventType, order.getOrderId(), order.getStoreId(), order.getUserId(), order.getOrderStatus());
+    }
+
+    private static OrderOutbox of(OrderEventType eventType, UUID orderId, UUID storeId, UUID userId, OrderStatus orderStatus) {
+        return OrderOutbox.builder()
+                .eventType(eventType)
+                .orderId(orderId)
+                .storeId(storeId)
+                .userId(userId)
+                .orderStatus(orderStatus)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+
+    public void markPublished(LocalDateTime now) {
+        this.publishedAt = now;
+    }
+
+    /**
+     * 전달 실패를 기록하는 메서드
+     *
+     * 실패할 때마다 재시도 간격을 두 배로 늘리고 (최대 maxBackoffMs), maxAttempts 번 실패하면 dead letter 로 표시합니다.
+     *
+     * @return dead letter 로 표시되었으면 true
+     */
+    public boolean markFailed(LocalDateTime now, int maxAttempts, long backoffMs, long maxBackoffMs) {
+        this.attempts++;
+        if (attempts >= maxAttempts) {
+            this.deadLetteredAt = now;
+            return true;
+        }
+
+        long delayMs = Math.min(maxBackoffMs, backoffMs << Math.min(attempts - 1, 30));
+        this.nextAttemptAt = now.plusNanos(delayMs * 1_000_000);
+        return false;
+    }
+
+    public OrderLifecycleEvent toEvent() {
+        return new OrderLifecycleEvent(outboxId, eventType, orderId, storeId, userId, orderStatus, occurredAt);
+    }
+}
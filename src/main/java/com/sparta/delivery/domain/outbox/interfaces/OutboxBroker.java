@@ -0,0 +1,14 @@
+package com.sparta.delivery.domain.outbox.interfaces;
+
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+
+/**
+ * outbox 의 주문 이벤트를 외부로 전달하는 broker
+ *
+ * spring.outbox.broker 값으로 구현체를 선택합니다. (local : 인스턴스 메모리 stand-in)
+ * 전달에 실패하면 예외를 던지며, 해당 이벤트는 다음 relay 실행에서 다시 전달됩니다.
+ */
+public interface OutboxBroker {
+
+    void publish(OrderLifecycleEvent event);
+}
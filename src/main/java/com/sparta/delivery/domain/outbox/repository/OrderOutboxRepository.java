@@ -0,0 +1,43 @@
+package com.sparta.delivery.domain.outbox.repository;
+
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.*;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface OrderOutboxRepository extends JpaRepository<OrderOutbox, UUID> {
+
+    // 재시도 시각이 된 전달하지 않은 이벤트를 발생 순서대로 가져오면서 잠금 (다른 인스턴스가 잠근 행은 건너뜀 : SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select o from OrderOutbox o " +
+            "where o.publishedAt is null and o.deadLetteredAt is null and o.nextAttemptAt <= :now order by o.occurredAt")
+    List<OrderOutbox> findUnpublishedForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    // from 이후에 발생한 이벤트를 발생 순서대로 조회 (인스턴스마다 outbox 를 따라 읽는 OrderOutboxTailer 용)
+    @Query("select o from OrderOutbox o where o.occurredAt >= :from order by o.occurredAt")
+    List<OrderOutbox> findOccurredFrom(@Param("from") LocalDateTime from, Pageable pageable);
+
+    // 가게의 lastEventId 이벤트 이후에 발생한 이벤트를 발생 순서대로 조회 (SSE 재연결 시 다른 인스턴스에서 받던 이벤트도 이어서 전달)
+    @Query("select o from OrderOutbox o " +
+            "where o.storeId = :storeId and o.outboxId <> :lastEventId " +
+            "and o.occurredAt >= (select l.occurredAt from OrderOutbox l where l.outboxId = :lastEventId) " +
+            "order by o.occurredAt")
+    List<OrderOutbox> findStoreEventsAfter(@Param("storeId") UUID storeId,
+                                           @Param("lastEventId") UUID lastEventId,
+                                           Pageable pageable);
+
+    // 전달을 포기한 이벤트 (dead letter) 수
+    long countByDeadLetteredAtIsNotNull();
+
+    // 보관 기간이 지난 전달 완료 이벤트를 delete 문 한 번으로 제거
+    @Modifying
+    @Query("delete from OrderOutbox o where o.publishedAt < :before")
+    int deletePublishedBefore(@Param("before") LocalDateTime before);
+}
@@ -0,0 +1,42 @@
+package com.sparta.delivery.domain.outbox.service;
+
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import com.sparta.delivery.domain.outbox.interfaces.OutboxBroker;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * 외부 broker 대신 최근 이벤트를 인스턴스 메모리에 보관하는 stand-in (로컬 실행, 테스트용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.outbox.broker", havingValue = "local", matchIfMissing = true)
+public class LocalOutboxBroker implements OutboxBroker {
+
+    private final int capacity; // 보관할 최근 이벤트 수
+    private final Deque<OrderLifecycleEvent> published = new ArrayDeque<>();
+
+    public LocalOutboxBroker(@Value("${spring.outbox.local-broker.capacity:1000}") int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public synchronized void publish(OrderLifecycleEvent event) {
+        if (published.size() == capacity) {
+            published.removeFirst();
+        }
+        published.addLast(event);
+        log.debug("Order event published. eventId={}, eventType={}, orderId={}", event.getEventId(), event.getEventType(), event.getOrderId());
+    }
+
+    // 보관 중인 이벤트 (오래된 순)
+    public synchronized List<OrderLifecycleEvent> getPublished() {
+        return List.copyOf(published);
+    }
+}
@@ -0,0 +1,165 @@
+package com.sparta.delivery.domain.outbox.service;
+
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.interfaces.OutboxBroker;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 주문 이벤트 outbox 를 broker 로 전달하는 relay
+ *
+ * 1. 재시도 시각이 된 전달하지 않은 행을 batchSize 개씩 잠금 조회 (SKIP LOCKED)
+ * 2. 행마다 OutboxBroker 로 전달한 뒤 publishedAt 기록
+ *    - 전달에 실패한 행은 backoffMs 부터 두 배씩 (최대 maxBackoffMs) 재시도를 미룸 (broker 장애 동안 시도 횟수를 바로 소진하지 않도록)
+ *    - maxAttempts 회 실패한 행은 dead letter 로 표시하고 더 이상 전달하지 않음 (order.outbox.dead_letter gauge 로 확인)
+ * 3. batch 마다 별도 트랜잭션으로 커밋해 잠금을 짧게 유지
+ * 4. 보관 기간이 지난 전달 완료 행 제거
+ *
+ * 다른 컨테이너가 잠근 행은 건너뛰므로 두 backend 인스턴스가 동시에 실행해도 같은 이벤트를 나눠서 전달합니다.
+ * 전달 후 커밋 전에 실패하면 다시 전달될 수 있으므로 (at-least-once) 구독자는 eventId 로 중복을 걸러야 합니다.
+ * 행은 인스턴스 중 한 곳에서만 전달되므로, 인스턴스마다 받아야 하는 in-process 구독자(가게 주문 피드)에는 OrderOutboxTailer 가 전달합니다.
+ */
+@Slf4j
+@Component
+public class OrderOutboxRelay {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final OutboxBroker outboxBroker;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int batchSize; // 한 트랜잭션에서 전달할 최대 이벤트 수
+    private final int maxBatches; // 한 번 실행에서 처리할 최대 batch 수
+    private final int maxAttempts; // 이벤트당 최대 전달 시도 횟수
+    private final long backoffMs; // 첫 재시도까지의 대기 시간
+    private final long maxBackoffMs; // 재시도 대기 시간 최대값
+    private final long retentionMs; // 전달 완료 이벤트 보관 기간
+
+    private final Counter relayedCounter;
+    private final Counter failedCounter;
+    private final Counter deadLetteredCounter;
+    private final AtomicLong deadLetterCount = new AtomicLong(); // 마지막 실행 시점의 dead letter 행 수
+
+    /**
+     * OrderOutboxRelay 생성자
+     *
+     * @param orderOutboxRepository 주문 이벤트 outbox Repository
+     * @param outboxBroker 이벤트를 외부로 전달할 broker
+     * @param transactionTemplate batch 단위 트랜잭션을 위한 TransactionTemplate
+     * @param meterRegistry 전달, 실패 건수를 등록할 registry
+     * @param batchSize 한 트랜잭션에서 전달할 최대 이벤트 수
+     * @param maxBatches 한 번 실행에서 처리할 최대 batch 수
+     * @param maxAttempts 이벤트당 최대 전달 시도 횟수
+     * @param backoffMs 첫 재시도까지의 대기 시간 (실패할 때마다 두 배)
+     * @param maxBackoffMs 재시도 대기 시간 최대값
+     * @param retentionMs 전달 완료 이벤트 보관 기간
+     */
+    public OrderOutboxRelay(OrderOutboxRepository orderOutboxRepository,
+                            OutboxBroker outboxBroker,
+                            TransactionTemplate transactionTemplate,
+                            MeterRegistry meterRegistry,
+                            @Value("${spring.outbox.relay.batch-size:100}") int batchSize,
+                            @Value("${spring.outbox.relay.max-batches:10}") int maxBatches,
+                            @Value("${spring.outbox.relay.max-attempts:20}") int maxAttempts,
+                            @Value("${spring.outbox.relay.backoff-ms:1000}") long backoffMs,
+                            @Value("${spring.outbox.relay.max-backoff-ms:300000}") long maxBackoffMs,
+                            @Value("${spring.outbox.retention-ms:86400000}") long retentionMs) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.outboxBroker = outboxBroker;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.maxAttempts = maxAttempts;
+        this.backoffMs = backoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.retentionMs = retentionMs;
+
+        this.relayedCounter = meterRegistry.counter("order.outbox.relayed");
+        this.failedCounter = meterRegistry.counter("order.outbox.failed");
+        this.deadLetteredCounter = meterRegistry.counter("order.outbox.dead_lettered");
+        Gauge.builder("order.outbox.dead_letter", deadLetterCount, AtomicLong::get)
+                .description("전달을 포기한 주문 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${spring.outbox.relay.initial-delay-ms:10000}",
+            fixedDelayString = "${spring.outbox.relay.interval-ms:1000}")
+    public void scheduledRelay() {
+        relay();
+        purgePublished();
+        countDeadLetters();
+    }
+
+    /**
+     * 전달하지 않은 주문 이벤트를 batch 단위로 전달하는 메서드
+     *
+     * @return 이번 실행에서 전달된 이벤트 수
+     */
+    public int relay() {
+        int relayed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            int[] result = transactionTemplate.execute(status -> relayBatch());
+            relayed += result[1];
+
+            if (result[0] < batchSize) {
+                break;
+            }
+        }
+
+        return relayed;
+    }
+
+    // 보관 기간이 지난 전달 완료 이벤트 제거 (제거된 행 수 반환)
+    public int purgePublished() {
+        LocalDateTime before = LocalDateTime.now().minusNanos(retentionMs * 1_000_000);
+        return transactionTemplate.execute(status -> orderOutboxRepository.deletePublishedBefore(before));
+    }
+
+    // dead letter 행 수를 다시 세어 gauge 갱신 (dead letter 행 수 반환)
+    public long countDeadLetters() {
+        long count = orderOutboxRepository.countByDeadLetteredAtIsNotNull();
+        deadLetterCount.set(count);
+        return count;
+    }
+
+    // [조회한 행 수, 전달된 행 수]
+    private int[] relayBatch() {
+        List<OrderOutbox> outboxes = orderOutboxRepository.findUnpublishedForUpdate(LocalDateTime.now(), PageRequest.of(0, batchSize));
+        LocalDateTime now = LocalDateTime.now();
+        int relayed = 0;
+
+        for (OrderOutbox outbox : outboxes) {
+            OrderLifecycleEvent event = outbox.toEvent();
+            try {
+                outboxBroker.publish(event);
+                outbox.markPublished(now);
+                relayed++;
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                if (outbox.markFailed(now, maxAttempts, backoffMs, maxBackoffMs)) {
+                    deadLetteredCounter.increment();
+                    log.error("Order event moved to dead letter. eventId={}, attempts={}", event.getEventId(), outbox.getAttempts(), e);
+                } else {
+                    log.warn("Order event relay failed. eventId={}, attempts={}, nextAttemptAt={}",
+                            event.getEventId(), outbox.getAttempts(), outbox.getNextAttemptAt(), e);
+                }
+            }
+        }
+
+        relayedCounter.increment(relayed);
+        return new int[]{outboxes.size(), relayed};
+    }
+}
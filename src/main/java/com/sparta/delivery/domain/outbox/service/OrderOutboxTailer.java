@@ -0,0 +1,120 @@
+package com.sparta.delivery.domain.outbox.service;
+
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 인스턴스마다 주문 이벤트 outbox 를 따라 읽어 in-process 구독자(@EventListener(OrderLifecycleEvent))에게 전달하는 tailer
+ *
+ * OrderOutboxRelay 는 행을 나눠 가져가 broker 로 한 번씩 전달하지만, 가게 주문 피드(SSE)처럼 인스턴스마다 연결된 구독자는
+ * 어느 인스턴스에서 기록된 이벤트든 모두 받아야 하므로 모든 인스턴스가 같은 p_order_outbox 를 각자 읽습니다.
+ *
+ * 1. 마지막으로 읽은 발생 시각(cursor)에서 overlap 만큼 앞선 시각부터 발생 순서대로 조회
+ *    - 발생 시각은 커밋 전에 정해지므로 늦게 커밋된 이벤트를 overlap 구간을 다시 읽어 놓치지 않음
+ * 2. overlap 구간 안에서 이미 전달한 이벤트는 outbox id 로 걸러 한 번만 전달
+ *
+ * 트랜잭션이 overlap 보다 오래 걸리거나 인스턴스 간 시계 차이가 overlap 보다 크면 그 이벤트는 피드로 전달되지 않을 수 있습니다.
+ */
+@Component
+public class OrderOutboxTailer {
+
+    private final OrderOutboxRepository orderOutboxRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private final int batchSize; // 한 번에 조회할 최대 이벤트 수
+    private final int maxBatches; // 한 번 실행에서 조회할 최대 batch 수
+    private final Duration overlap; // 늦게 커밋된 이벤트를 놓치지 않도록 다시 읽는 구간
+
+    private final Counter deliveredCounter;
+
+    private LocalDateTime cursor = LocalDateTime.now(); // 전달한 이벤트 중 가장 늦은 발생 시각
+    private final Map<UUID, LocalDateTime> delivered = new HashMap<>(); // overlap 구간 안에서 전달한 이벤트 (outbox id -> 발생 시각)
+
+    /**
+     * OrderOutboxTailer 생성자
+     *
+     * @param orderOutboxRepository 주문 이벤트 outbox Repository
+     * @param applicationEventPublisher in-process 구독자에게 전달할 publisher
+     * @param meterRegistry 전달 건수를 등록할 registry
+     * @param batchSize 한 번에 조회할 최대 이벤트 수
+     * @param maxBatches 한 번 실행에서 조회할 최대 batch 수
+     * @param overlapMs 늦게 커밋된 이벤트를 놓치지 않도록 다시 읽는 구간 (밀리초 단위)
+     */
+    public OrderOutboxTailer(OrderOutboxRepository orderOutboxRepository,
+                             ApplicationEventPublisher applicationEventPublisher,
+                             MeterRegistry meterRegistry,
+                             @Value("${spring.outbox.tailer.batch-size:500}") int batchSize,
+                             @Value("${spring.outbox.tailer.max-batches:10}") int maxBatches,
+                             @Value("${spring.outbox.tailer.overlap-ms:10000}") long overlapMs) {
+        this.orderOutboxRepository = orderOutboxRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.overlap = Duration.ofMillis(overlapMs);
+
+        this.deliveredCounter = meterRegistry.counter("order.outbox.tailed");
+    }
+
+    @Scheduled(initialDelayString = "${spring.outbox.tailer.initial-delay-ms:0}",
+            fixedDelayString = "${spring.outbox.tailer.interval-ms:500}")
+    public void scheduledTail() {
+        tail();
+    }
+
+    /**
+     * 마지막으로 읽은 이후 기록된 주문 이벤트를 in-process 구독자에게 전달하는 메서드
+     *
+     * @return 이번 실행에서 전달된 이벤트 수
+     */
+    public synchronized int tail() {
+        LocalDateTime from = cursor.minus(overlap);
+        int tailed = 0;
+
+        for (int batch = 0; batch < maxBatches; batch++) {
+            List<OrderOutbox> outboxes = orderOutboxRepository.findOccurredFrom(from, PageRequest.of(0, batchSize));
+
+            for (OrderOutbox outbox : outboxes) {
+                if (delivered.putIfAbsent(outbox.getOutboxId(), outbox.getOccurredAt()) != null) {
+                    continue;
+                }
+                applicationEventPublisher.publishEvent(outbox.toEvent());
+                tailed++;
+
+                if (outbox.getOccurredAt().isAfter(cursor)) {
+                    cursor = outbox.getOccurredAt();
+                }
+            }
+
+            if (outboxes.size() < batchSize) {
+                break;
+            }
+            // 다음 batch 는 이번 batch 의 마지막 발생 시각부터 (같은 시각의 이벤트는 delivered 로 걸러짐)
+            LocalDateTime last = outboxes.get(outboxes.size() - 1).getOccurredAt();
+            if (!last.isAfter(from)) {
+                break;
+            }
+            from = last;
+        }
+
+        // 다시 읽지 않는 구간의 전달 기록 정리
+        LocalDateTime windowStart = cursor.minus(overlap);
+        delivered.values().removeIf(occurredAt -> occurredAt.isBefore(windowStart));
+
+        deliveredCounter.increment(tailed);
+        return tailed;
+    }
+}
@@ -1,6 +1,7 @@
 package com.sparta.delivery.domain.payment.controller;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.config.global.idempotency.IdempotencyStore;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.enums.OrderType;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
@@ -23,12 +24,18 @@ import java.util.UUID;
 public class PaymentController {
 
     private final PaymentService paymentService;
+    private final IdempotencyStore idempotencyStore;
 
     @Operation(summary = "결제")
     @PostMapping
-    public ResponseEntity<?> requestPayment(@RequestBody RegisterPaymentDto registerPaymentDto, @AuthenticationPrincipal PrincipalDetails principalDetails) {
-        paymentService.isRegisterPayment(registerPaymentDto, principalDetails.getUsername());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<?> requestPayment(@RequestBody RegisterPaymentDto registerPaymentDto,
+                                            @RequestHeader(name = IdempotencyStore.HEADER, required = false) String idempotencyKey,
+                                            @AuthenticationPrincipal PrincipalDetails principalDetails) {
+        // 같은 Idempotency-Key 로 재시도하면 결제를 다시 실행하지 않고 처음 응답을 반환
+        return idempotencyStore.execute("requestPayment", principalDetails.getUsername(), idempotencyKey, registerPaymentDto, () -> {
+            paymentService.isRegisterPayment(registerPaymentDto, principalDetails.getUsername());
+            return ResponseEntity.ok().build();
+        });
     }
 
     @Operation(summary = "결제 내역 조회")
@@ -1,6 +1,7 @@
 package com.sparta.delivery.domain.payment.repository;
 
 import com.sparta.delivery.domain.payment.entity.Payment;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -9,6 +10,8 @@ import java.util.UUID;
 
 public interface PaymentRepository extends JpaRepository<Payment, UUID>, PaymentRepositoryCustom{
 
+    // 결제 목록 응답에 필요한 주문을 함께 조회
+    @EntityGraph(attributePaths = "order")
     List<Payment> findByUser_UsernameAndDeletedAtIsNull(String username);
 
     Optional<Payment> findByPaymentIdAndDeletedAtIsNullAndUser_Username(UUID paymentId, String username);
@@ -1,8 +1,9 @@
 package com.sparta.delivery.domain.payment.repository;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
-import com.sparta.delivery.domain.payment.entity.Payment;
 import java.util.List;
 
 public interface PaymentRepositoryCustom {
-    List<Payment> searchPayments(SearchDto searchDto, String username);
+    // 결제 내역을 엔티티 대신 결제 응답 DTO 로 조회
+    List<PaymentDto> searchPayments(SearchDto searchDto, String username);
 }
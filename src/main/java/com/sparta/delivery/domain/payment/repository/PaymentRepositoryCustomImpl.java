@@ -1,11 +1,11 @@
 package com.sparta.delivery.domain.payment.repository;
 import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Projections;
 import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
-import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.entity.QPayment;
 import com.sparta.delivery.domain.order.entity.QOrder;
-import com.sparta.delivery.domain.card.entity.QCard;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Repository;
 
@@ -15,11 +15,15 @@ import java.util.List;
 public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
     private final JPAQueryFactory queryFactory;
 
+    /**
+     * 결제 내역을 결제 응답 DTO 로 바로 조회하는 메서드
+     *
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 결제와 주문의 필요한 컬럼만 읽습니다. (카드는 카드사 조건이 있을 때만 join)
+     */
     @Override
-    public List<Payment> searchPayments(SearchDto searchDto, String username) {
+    public List<PaymentDto> searchPayments(SearchDto searchDto, String username) {
         QPayment payment = QPayment.payment;
         QOrder order = QOrder.order;
-        QCard card = QCard.card;
 
         BooleanBuilder builder = new BooleanBuilder();
 
@@ -37,12 +41,12 @@ public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
 
         // 주문 상태 설정
         if (searchDto.getOrderStatus() != null) {
-            builder.and(payment.order.orderStatus.eq(searchDto.getOrderStatus()));
+            builder.and(order.orderStatus.eq(searchDto.getOrderStatus()));
         }
 
         // 주문 타입 설정
         if (searchDto.getOrderType() != null) {
-            builder.and(payment.order.orderType.eq(searchDto.getOrderType()));
+            builder.and(order.orderType.eq(searchDto.getOrderType()));
         }
 
         // 결제 시간 설정
@@ -56,9 +60,16 @@ public class PaymentRepositoryCustomImpl implements PaymentRepositoryCustom{
         }
 
         return queryFactory
-                .selectFrom(payment)
-                .leftJoin(payment.order, order).fetchJoin()
-                .leftJoin(payment.card, card).fetchJoin()
+                .select(Projections.constructor(PaymentDto.class,
+                        payment.paymentId,
+                        payment.amount,
+                        order.orderId,
+                        order.orderTime,
+                        order.orderType,
+                        order.orderStatus,
+                        order.requirements))
+                .from(payment)
+                .leftJoin(payment.order, order)
                 .where(builder)
                 .fetch();
     }
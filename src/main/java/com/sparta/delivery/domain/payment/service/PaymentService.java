@@ -4,21 +4,22 @@ import com.sparta.delivery.config.global.exception.custom.PaymentAlreadyComplete
 import com.sparta.delivery.domain.card.entity.Card;
 import com.sparta.delivery.domain.card.repository.CardRepository;
 import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderEventPublisher;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
 import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
 
@@ -28,19 +29,24 @@ public class PaymentService {
 
     private final PaymentRepository paymentRepository;
     private final CardRepository cardRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final OrderRepository orderRepository;
+    private final OrderEventPublisher orderEventPublisher;
 
     @Transactional
     public void isRegisterPayment(RegisterPaymentDto registerPaymentDto, String username) {
         Card card = getCard(registerPaymentDto.getCardId(), username);
-        Order order = getOrder(registerPaymentDto.getOrderId());
-        User user = undeletedUser(username);
+        User user = userResolver.getReference(username).orElseThrow(() ->
+                new NullPointerException("유저가 존재하지 않습니다."));
 
-        if(!order.getOrderStatus().equals(OrderStatus.PAYMENT_WAIT)){
+        // 결제 대기 상태일 때만 결제 완료로 변경 (사장님의 상태 변경, 중복 결제와 동시에 실행되어도 한 요청만 성공)
+        if(orderRepository.compareAndSetOrderStatus(registerPaymentDto.getOrderId(),
+                OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE) == 0){
+            getOrder(registerPaymentDto.getOrderId());
             throw new PaymentAlreadyCompletedException("이미 결제된 주문입니다.");
         }
-        order.setOrderStatus(OrderStatus.PAYMENT_COMPLETE);
+        Order order = getOrder(registerPaymentDto.getOrderId());
+        orderEventPublisher.publish(order, OrderEventType.PAYMENT_COMPLETED);
         try {
             paymentRepository.save(Payment.builder()
                     .user(user)
@@ -57,50 +63,32 @@ public class PaymentService {
         Payment payment = paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,username).orElseThrow(()
                 -> new NullPointerException("결제 내역이 존재하지 않습니다."));
         Order order = getOrder(payment.getOrder().getOrderId());
-        User user = undeletedUser(username);
+        checkUndeletedUser(username);
 
-        PaymentDto paymentDto = PaymentDto.builder()
-                .paymentId(paymentId)
-                .amount(payment.getAmount())
-                .orderId(order.getOrderId())
-                .orderTime(order.getOrderTime())
-                .orderType(order.getOrderType())
-                .orderStatus(order.getOrderStatus())
-                .requirements(order.getRequirements())
-                .build();
-        return paymentDto;
+        return toPaymentDto(payment, order);
     }
 
+    // 결제 목록을 한 번 조회한 뒤 결제마다 다시 조회하지 않고 그대로 변환
     public List<PaymentDto> getPayments(String username) {
-        User user = undeletedUser(username);
-        List<PaymentDto> paymentDtos = new ArrayList<>();
+        checkUndeletedUser(username);
 
         List<Payment> payments = paymentRepository.findByUser_UsernameAndDeletedAtIsNull(username);
-        for (Payment payment : payments) {
-            paymentDtos.add(getPayment(payment.getPaymentId(),username));
-        }
-
-        return paymentDtos;
+        return payments.stream()
+                .map(payment -> toPaymentDto(payment, payment.getOrder()))
+                .toList();
     }
 
+    // 결제 DTO 를 컬럼에서 바로 조회하므로 읽기 전용 트랜잭션으로 실행 (flush, dirty checking 없음)
+    @Transactional(readOnly = true)
     public List<PaymentDto> searchPayments(SearchDto searchDto, String username) {
-        User user = undeletedUser(username);
-        List<Payment> payments = paymentRepository.searchPayments(searchDto, username);
-        return payments.stream().map(payment -> PaymentDto.builder()
-                .paymentId(payment.getPaymentId())
-                .amount(payment.getAmount())
-                .orderId(payment.getOrder().getOrderId())
-                .orderTime(payment.getOrder().getOrderTime())
-                .orderType(payment.getOrder().getOrderType())
-                .orderStatus(payment.getOrder().getOrderStatus())
-                .requirements(payment.getOrder().getRequirements())
-                .build()).toList();
+        checkUndeletedUser(username);
+        return paymentRepository.searchPayments(searchDto, username);
     }
 
 
     @Transactional
     public void deletePayment(UUID paymentId, String username) {
-        User user = undeletedUser(username);
+        checkUndeletedUser(username);
         Payment payment = paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,username).orElseThrow(() ->
                 new NullPointerException("결제 정보가 존재하지 않습니다."));
         try {
@@ -111,11 +99,24 @@ public class PaymentService {
         }
     }
 
-    private User undeletedUser(String username){
-        return userRepository.findByUsernameAndDeletedAtIsNull(username).orElseThrow(() ->
+    // 유저 존재 여부만 확인 (username -> userId 캐시 사용)
+    private void checkUndeletedUser(String username){
+        userResolver.findUserId(username).orElseThrow(() ->
                 new NullPointerException("유저가 존재하지 않습니다."));
     }
 
+    private PaymentDto toPaymentDto(Payment payment, Order order) {
+        return PaymentDto.builder()
+                .paymentId(payment.getPaymentId())
+                .amount(payment.getAmount())
+                .orderId(order.getOrderId())
+                .orderTime(order.getOrderTime())
+                .orderType(order.getOrderType())
+                .orderStatus(order.getOrderStatus())
+                .requirements(order.getRequirements())
+                .build();
+    }
+
     private Card getCard(UUID cardId, String username){
         return cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId, username)
                 .orElseThrow(() -> new NullPointerException("카드가 존재하지 않습니다"));
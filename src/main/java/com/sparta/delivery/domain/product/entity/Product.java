@@ -5,6 +5,8 @@ import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
 import com.sparta.delivery.domain.store.entity.Stores;
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.DynamicUpdate;
 
 import java.time.LocalDateTime;
 import java.util.UUID;
@@ -15,6 +17,7 @@ import java.util.UUID;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@DynamicUpdate // 변경된 컬럼만 update (상품 정보 수정이 동시에 차감된 재고를 덮어쓰지 않도록)
 @Table(name = "p_product")
 public class Product extends Timestamped {
 
@@ -41,11 +44,19 @@ public class Product extends Timestamped {
     @Column(nullable = false)
     private boolean hidden;
 
+    // 점주가 재고를 직접 설정할 때마다 증가 (재고 ledger 가 이전 재고 기준으로 확보한 수량을 되돌리지 않도록)
+    @ColumnDefault("0")
+    @Column(nullable = false)
+    private long stockVersion;
+
     public void update(ProductUpdateRequestDto productUpdateRequestDto) {
         this.name = productUpdateRequestDto.getName() == null ? this.name : productUpdateRequestDto.getName();
         this.description = productUpdateRequestDto.getDescription() == null ? this.description : productUpdateRequestDto.getDescription();
         this.price = (productUpdateRequestDto.getPrice() == 0 || productUpdateRequestDto.getPrice() < 0) ? this.price : productUpdateRequestDto.getPrice();
-        this.quantity = productUpdateRequestDto.getQuantity() == 0 ? this.quantity : productUpdateRequestDto.getQuantity();
+        if (productUpdateRequestDto.getQuantity() != 0) {
+            this.quantity = productUpdateRequestDto.getQuantity();
+            this.stockVersion++;
+        }
         this.hidden = productUpdateRequestDto.isHidden();
     }
 
@@ -0,0 +1,20 @@
+package com.sparta.delivery.domain.product.interfaces;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 주문 상품 재고 예약
+ *
+ * 구현체는 spring.product.stock-ledger.enabled 설정 값으로 선택합니다.
+ * (false : p_product 행에서 바로 차감, true : 인스턴스 메모리의 재고 ledger 에서 차감)
+ * 두 구현체 모두 현재 트랜잭션이 롤백되면 예약한 재고가 되돌아갑니다.
+ */
+public interface StockReservation {
+
+    // 상품 id 별 수량만큼 재고 예약, 하나라도 부족하면 ProductQuantityNotAllowedException
+    void reserve(Map<UUID, Integer> countByProductId);
+
+    // 예약했던 재고 반환 (주문 취소, 변경, 결제 시간 초과 시)
+    void release(Map<UUID, Integer> countByProductId);
+}
@@ -3,8 +3,14 @@ package com.sparta.delivery.domain.product.repository;
 import com.sparta.delivery.domain.product.entity.Product;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -14,6 +20,32 @@ public interface ProductRepository extends JpaRepository<Product, UUID> {
 
     Optional<Product> findByProductIdAndDeletedAtIsNullAndHiddenFalse(UUID productId);
 
+    // 상품 수정, 삭제 시 권한 확인을 위해 가게와 가게 주인까지 함께 조회
+    @EntityGraph(attributePaths = {"store", "store.user"})
+    Optional<Product> findWithStoreOwnerByProductId(UUID productId);
+
+    // 주문 상품 목록을 IN 쿼리 한 번으로 조회
+    List<Product> findAllByProductIdInAndDeletedAtIsNullAndHiddenFalse(Collection<UUID> productIds);
+
+    // 재고가 count 이상일 때만 count 만큼 차감 (조회 없이 update 한 번, 차감되었으면 1 반환)
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity - :count where p.productId = :productId and p.quantity >= :count")
+    int decreaseQuantity(@Param("productId") UUID productId, @Param("count") int count);
+
+    // 재고가 count 이상인 상품만 count 만큼 차감 (차감된 상품 수 반환)
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity - :count where p.productId in :productIds and p.quantity >= :count")
+    int decreaseQuantities(@Param("productIds") Collection<UUID> productIds, @Param("count") int count);
+
+    // 재고 ledger 가 확보한 수량이 어느 재고 설정 기준인지 확인하기 위한 버전 조회
+    @Query("select p.stockVersion from Product p where p.productId = :productId")
+    long findStockVersion(@Param("productId") UUID productId);
+
+    // 상품 재고를 count 만큼 증가 (주문 취소, 변경 시)
+    @Modifying
+    @Query("update Product p set p.quantity = p.quantity + :count where p.productId in :productIds")
+    int increaseQuantities(@Param("productIds") Collection<UUID> productIds, @Param("count") int count);
+
     Optional<Product> findByProductIdAndDeletedAtIsNull(UUID productId);
 
     Page<Product> findAllByNameContaining(String productName, Pageable pageable);
@@ -0,0 +1,30 @@
+package com.sparta.delivery.domain.product.service;
+
+import com.sparta.delivery.domain.product.interfaces.StockReservation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * p_product 행의 재고를 조건부 update 로 바로 차감하는 재고 예약 (기본값)
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.product.stock-ledger.enabled", havingValue = "false", matchIfMissing = true)
+public class DatabaseStockReservation implements StockReservation {
+
+    private final ProductService productService;
+
+    @Override
+    public void reserve(Map<UUID, Integer> countByProductId) {
+        productService.decreaseProductQuantities(countByProductId);
+    }
+
+    @Override
+    public void release(Map<UUID, Integer> countByProductId) {
+        productService.increaseProductQuantities(countByProductId);
+    }
+}
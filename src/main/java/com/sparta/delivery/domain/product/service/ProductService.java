@@ -17,7 +17,10 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @Service
@@ -99,7 +102,7 @@ public class ProductService {
 
     @Transactional
     public ProductResponseDto updateProduct(UUID productId, ProductUpdateRequestDto productUpdateRequestDto,  PrincipalDetails userDetails) {
-        Product product = productRepository.findById(productId).orElseThrow(() -> new ProductNotFoundException("해당 상품을 찾을 수 없습니다."));
+        Product product = productRepository.findWithStoreOwnerByProductId(productId).orElseThrow(() -> new ProductNotFoundException("해당 상품을 찾을 수 없습니다."));
 
         AuthorizationResult authorizationResult = checkAuthorization(product, userDetails);
 
@@ -114,7 +117,7 @@ public class ProductService {
 
     @Transactional
     public ProductResponseDto deleteProduct(UUID productId, PrincipalDetails userDetails) {
-        Product product = productRepository.findById(productId).orElseThrow(() -> new ProductNotFoundException("해당 상품을 찾을 수 없습니다."));
+        Product product = productRepository.findWithStoreOwnerByProductId(productId).orElseThrow(() -> new ProductNotFoundException("해당 상품을 찾을 수 없습니다."));
 
         if (product.getDeletedAt() != null) {
             throw new ProductAlreadyDeletedException("이미 삭제된 상품입니다.");
@@ -161,12 +164,38 @@ public class ProductService {
         return productRepository.findAllByNameContainingAndDeletedAtIsNullAndHiddenFalse(productName, pageable).map(ProductResponseDto::from);
     }
 
-    public void updateProductQuantity(Product product, int count) {
-        if(product.getQuantity() == 0 && count == -1)
-            throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
-        else {
-            product.setQuantity(product.getQuantity() + count);
-            productRepository.save(product);
-        }
+    /**
+     * 여러 상품의 재고를 차감하는 메서드 (주문 생성, 변경 시)
+     *
+     * 같은 수량을 차감하는 상품끼리 묶어 update 문 한 번으로 처리합니다. (보통 모든 상품이 1개씩이므로 한 번)
+     * 재고가 부족한 상품이 하나라도 있으면 예외가 발생하고 트랜잭션 전체가 롤백됩니다.
+     *
+     * @param countByProductId 상품 id 별 차감할 수량
+     * @throws ProductQuantityNotAllowedException 재고가 부족한 상품이 있는 경우
+     */
+    @Transactional
+    public void decreaseProductQuantities(Map<UUID, Integer> countByProductId) {
+        groupByCount(countByProductId).forEach((count, productIds) -> {
+            if (productRepository.decreaseQuantities(productIds, count) != productIds.size()) {
+                throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
+            }
+        });
+    }
+
+    /**
+     * 여러 상품의 재고를 되돌리는 메서드 (주문 취소, 변경 시)
+     *
+     * @param countByProductId 상품 id 별 증가할 수량
+     */
+    @Transactional
+    public void increaseProductQuantities(Map<UUID, Integer> countByProductId) {
+        groupByCount(countByProductId).forEach((count, productIds) -> productRepository.increaseQuantities(productIds, count));
+    }
+
+    private Map<Integer, List<UUID>> groupByCount(Map<UUID, Integer> countByProductId) {
+        Map<Integer, List<UUID>> productIdsByCount = new HashMap<>();
+        countByProductId.forEach((productId, count) ->
+                productIdsByCount.computeIfAbsent(count, key -> new ArrayList<>()).add(productId));
+        return productIdsByCount;
     }
 }
@@ -0,0 +1,369 @@
+package com.sparta.delivery.domain.product.service;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.product.interfaces.StockReservation;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인스턴스 메모리에 상품 재고 일부를 미리 확보해 두고 주문을 처리하는 재고 ledger (프로모션 등 특정 상품에 주문이 몰릴 때)
+ *
+ * 1. 주문은 상품별 striped counter 에서 CAS 로 재고를 차감 (p_product 행을 건드리지 않음)
+ * 2. counter 가 부족하면 p_product 에서 chunkSize 만큼 조건부 update 로 확보
+ *    - 확보한 수량 중 이번 주문에 쓰고 남은 수량은 주문 트랜잭션이 커밋된 뒤에 counter 에 추가
+ *    - 주문이 롤백되면 DB 차감도 함께 롤백되므로 없는 재고가 counter 에 생기지 않음
+ * 3. counter 에서 차감한 뒤 주문이 롤백되면 차감한 수량을 counter 에 되돌림
+ * 4. 주기적으로 모든 counter 의 남은 수량을 p_product 에 batch update 로 반환
+ *
+ * 여러 backend 인스턴스가 같은 DB 를 사용해도 각 인스턴스는 DB 에서 조건부 update 로 확보한 수량만 판매하므로 초과 판매가 없습니다.
+ * 점주가 재고를 직접 설정하면 stockVersion 이 증가하고, 이전 버전 기준으로 확보한 수량은 반환하지 않고 버립니다.
+ * 인스턴스가 비정상 종료되면 확보해 둔 수량(상품당 최대 chunkSize)은 반환되지 않으므로 점주가 재고를 다시 설정해야 합니다.
+ *
+ * 다음 제약이 있으므로 기본값은 사용 안 함이며, 주문이 몰리는 배포에서만 켜고 productIds 로 대상 상품을 지정합니다.
+ * - 인스턴스마다 확보한 수량이 다르므로 한 인스턴스는 품절, 다른 인스턴스는 판매 가능일 수 있음 (reconcile 전까지)
+ * - 점주가 재고를 다시 설정해도 다른 인스턴스의 counter 는 reconcile 전까지 이전 버전 수량을 계속 판매
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "spring.product.stock-ledger.enabled", havingValue = "true")
+public class StockLedger implements StockReservation {
+
+    private static final String RETURN_SQL =
+            "update p_product set quantity = quantity + ? where product_id = ? and stock_version = ?";
+
+    private final ProductRepository productRepository;
+    private final ProductService productService;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int stripes; // 상품당 counter 수
+    private final int chunkSize; // DB 에서 한 번에 확보할 재고 수량
+    private final Set<UUID> productIds; // ledger 로 예약할 상품 (비어 있으면 모든 상품)
+
+    // 주문된 적 있는 상품별 counter (상품 수만큼만 늘어나며 반환 후에도 유지)
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+
+    private final Counter localCounter;
+    private final Counter claimCounter;
+    private final Counter returnedCounter;
+    private final Counter discardedCounter;
+
+    /**
+     * StockLedger 생성자
+     *
+     * @param productRepository 상품 재고를 확보할 Repository
+     * @param productService 주문 취소 시 재고를 되돌릴 ProductService
+     * @param jdbcTemplate 남은 재고를 batch update 로 반환할 JdbcTemplate
+     * @param transactionTemplate 반환 batch 를 한 트랜잭션으로 묶을 TransactionTemplate
+     * @param meterRegistry 예약, 반환 지표를 등록할 registry
+     * @param stripes 상품당 counter 수 (0 이면 CPU 코어 수)
+     * @param chunkSize DB 에서 한 번에 확보할 재고 수량
+     * @param productIds ledger 로 예약할 상품 id 목록 (비어 있으면 모든 상품, 그 외 상품은 p_product 에서 바로 차감)
+     */
+    public StockLedger(ProductRepository productRepository,
+                       ProductService productService,
+                       JdbcTemplate jdbcTemplate,
+                       TransactionTemplate transactionTemplate,
+                       MeterRegistry meterRegistry,
+                       @Value("${spring.product.stock-ledger.stripes:0}") int stripes,
+                       @Value("${spring.product.stock-ledger.chunk-size:10}") int chunkSize,
+                       @Value("${spring.product.stock-ledger.product-ids:}") Set<UUID> productIds) {
+        this.productRepository = productRepository;
+        this.productService = productService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.stripes = stripes > 0 ? stripes : Runtime.getRuntime().availableProcessors();
+        this.chunkSize = chunkSize;
+        this.productIds = Set.copyOf(productIds);
+
+        this.localCounter = meterRegistry.counter("product.stock.ledger.reservations", "source", "ledger");
+        this.claimCounter = meterRegistry.counter("product.stock.ledger.reservations", "source", "database");
+        this.returnedCounter = meterRegistry.counter("product.stock.ledger.returned");
+        this.discardedCounter = meterRegistry.counter("product.stock.ledger.discarded");
+    }
+
+    /**
+     * 상품별 수량만큼 재고를 예약하는 메서드
+     *
+     * counter 에 남은 재고가 충분하면 DB 를 거치지 않고, 부족하면 DB 에서 chunk 를 확보합니다.
+     * ledger 대상이 아닌 상품은 p_product 에서 바로 차감합니다.
+     *
+     * @param countByProductId 상품 id 별 예약할 수량
+     * @throws ProductQuantityNotAllowedException counter 와 DB 모두 재고가 부족한 상품이 있는 경우
+     */
+    @Override
+    @Transactional
+    public void reserve(Map<UUID, Integer> countByProductId) {
+        List<Taken> takenList = new ArrayList<>();
+        Map<UUID, Integer> databaseCounts = new HashMap<>();
+
+        try {
+            countByProductId.forEach((productId, count) -> {
+                if (!productIds.isEmpty() && !productIds.contains(productId)) {
+                    databaseCounts.put(productId, count);
+                    return;
+                }
+
+                Entry entry = entries.computeIfAbsent(productId, id -> new Entry(stripes));
+                long version = entry.take(count);
+
+                if (version != Entry.NOT_TAKEN) {
+                    takenList.add(new Taken(entry, count, version));
+                    localCounter.increment();
+                } else {
+                    claim(productId, entry, count);
+                    claimCounter.increment();
+                }
+            });
+
+            if (!databaseCounts.isEmpty()) {
+                productService.decreaseProductQuantities(databaseCounts);
+            }
+        } catch (RuntimeException e) {
+            giveBack(takenList);
+            throw e;
+        }
+
+        runAfterCompletion(false, () -> giveBack(takenList));
+    }
+
+    /**
+     * 예약했던 재고를 반환하는 메서드
+     *
+     * 다른 인스턴스에서 예약한 주문일 수 있으므로 counter 가 아닌 p_product 에 바로 반환합니다.
+     *
+     * @param countByProductId 상품 id 별 반환할 수량
+     */
+    @Override
+    public void release(Map<UUID, Integer> countByProductId) {
+        productService.increaseProductQuantities(countByProductId);
+    }
+
+    @Scheduled(fixedDelayString = "${spring.product.stock-ledger.reconcile-interval-ms:2000}")
+    public void scheduledReconcile() {
+        reconcile();
+    }
+
+    // 종료 시 확보해 둔 재고를 모두 반환
+    @PreDestroy
+    public void returnAll() {
+        reconcile();
+    }
+
+    /**
+     * 모든 counter 의 남은 재고를 p_product 에 반환하는 메서드
+     *
+     * 확보 이후 점주가 재고를 다시 설정한 상품(stockVersion 불일치)은 반환하지 않습니다.
+     * DB 오류로 반환하지 못하면 counter 에 다시 넣고 다음 실행에서 재시도합니다.
+     *
+     * @return p_product 에 반환된 수량
+     */
+    public int reconcile() {
+        List<Drained> drainedList = new ArrayList<>();
+        entries.forEach((productId, entry) -> {
+            Drained drained = entry.drain(productId);
+            if (drained.amount() > 0) {
+                drainedList.add(drained);
+            }
+        });
+
+        if (drainedList.isEmpty()) {
+            return 0;
+        }
+
+        List<Object[]> args = drainedList.stream()
+                .map(drained -> new Object[]{drained.amount(), drained.productId(), drained.version()})
+                .toList();
+
+        int[] results;
+        try {
+            results = transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(RETURN_SQL, args));
+        } catch (RuntimeException e) {
+            log.warn("Stock ledger reconcile failed. products={}", drainedList.size(), e);
+            drainedList.forEach(drained -> credit(entries.get(drained.productId()), drained.amount(), drained.version()));
+            return 0;
+        }
+
+        int returned = 0;
+        for (int i = 0; i < results.length; i++) {
+            int amount = drainedList.get(i).amount();
+            if (results[i] > 0 || results[i] == Statement.SUCCESS_NO_INFO) {
+                returned += amount;
+            } else {
+                discardedCounter.increment(amount);
+            }
+        }
+        returnedCounter.increment(returned);
+
+        return returned;
+    }
+
+    // DB 에서 chunk (재고가 chunk 보다 적으면 주문 수량만큼) 확보, 남은 수량은 커밋 후 counter 에 추가
+    private void claim(UUID productId, Entry entry, int count) {
+        int claimed = Math.max(chunkSize, count);
+
+        if (productRepository.decreaseQuantity(productId, claimed) == 0) {
+            claimed = count;
+            if (productRepository.decreaseQuantity(productId, count) == 0) {
+                throw new ProductQuantityNotAllowedException("주문하신 상품이 품절되었습니다.");
+            }
+        }
+
+        int remainder = claimed - count;
+        if (remainder > 0) {
+            // update 로 행이 잠겨 있으므로 확보한 수량과 같은 시점의 버전
+            long version = productRepository.findStockVersion(productId);
+            runAfterCompletion(true, () -> credit(entry, remainder, version));
+        }
+    }
+
+    private void giveBack(List<Taken> takenList) {
+        takenList.forEach(taken -> credit(taken.entry(), taken.count(), taken.version()));
+    }
+
+    private void credit(Entry entry, int amount, long version) {
+        if (amount > 0) {
+            discardedCounter.increment(entry.credit(amount, version));
+        }
+    }
+
+    // 트랜잭션이 커밋(committed = true) 또는 롤백(false)된 뒤 실행
+    private void runAfterCompletion(boolean committed, Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (committed) {
+                action.run();
+            }
+            return;
+        }
+
+        int expectedStatus = committed ? TransactionSynchronization.STATUS_COMMITTED : TransactionSynchronization.STATUS_ROLLED_BACK;
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                if (status == expectedStatus) {
+                    action.run();
+                }
+            }
+        });
+    }
+
+    /**
+     * 상품 하나의 striped counter
+     *
+     * 주문끼리는 read lock 을 함께 잡고 counter 를 CAS 로 차감하며, 수량 추가와 반환은 write lock 으로 배타적으로 실행합니다.
+     * 차감과 버전 읽기가 같은 read lock 안에서 일어나므로, 차감한 수량은 항상 함께 읽은 버전의 수량입니다.
+     */
+    private static final class Entry {
+
+        private static final long NOT_TAKEN = Long.MIN_VALUE;
+
+        private final AtomicInteger[] stripes;
+        private final ReadWriteLock lock = new ReentrantReadWriteLock();
+        private long version = -1; // counter 에 있는 수량을 확보한 시점의 stockVersion (write lock 으로 변경)
+
+        private Entry(int stripeCount) {
+            this.stripes = new AtomicInteger[stripeCount];
+            for (int i = 0; i < stripeCount; i++) {
+                stripes[i] = new AtomicInteger();
+            }
+        }
+
+        // counter 에서 count 만큼 차감하고 차감한 수량의 버전 반환, 부족하면 차감했던 수량을 되돌리고 NOT_TAKEN
+        private long take(int count) {
+            lock.readLock().lock();
+            try {
+                int home = ThreadLocalRandom.current().nextInt(stripes.length);
+                int taken = 0;
+
+                for (int i = 0; i < stripes.length && taken < count; i++) {
+                    AtomicInteger stripe = stripes[(home + i) % stripes.length];
+                    int available;
+                    int amount;
+                    do {
+                        available = stripe.get();
+                        amount = Math.min(available, count - taken);
+                    } while (amount > 0 && !stripe.compareAndSet(available, available - amount));
+                    taken += amount;
+                }
+
+                if (taken < count) {
+                    // read lock 을 잡고 있으므로 버전이 바뀌지 않아 그대로 되돌릴 수 있음
+                    stripes[home].addAndGet(taken);
+                    return NOT_TAKEN;
+                }
+                return version;
+            } finally {
+                lock.readLock().unlock();
+            }
+        }
+
+        // 수량 추가, 버려진 수량 반환 (더 오래된 버전의 수량이거나, 새 버전이 들어와 기존 수량이 무효가 된 경우)
+        private int credit(int amount, long creditVersion) {
+            lock.writeLock().lock();
+            try {
+                if (creditVersion < version) {
+                    return amount;
+                }
+
+                int discarded = 0;
+                if (creditVersion > version) {
+                    discarded = drainAll();
+                    version = creditVersion;
+                }
+
+                stripes[ThreadLocalRandom.current().nextInt(stripes.length)].addAndGet(amount);
+                return discarded;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private Drained drain(UUID productId) {
+            lock.writeLock().lock();
+            try {
+                return new Drained(productId, drainAll(), version);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        private int drainAll() {
+            int amount = 0;
+            for (AtomicInteger stripe : stripes) {
+                amount += stripe.getAndSet(0);
+            }
+            return amount;
+        }
+    }
+
+    private record Taken(Entry entry, int count, long version) {
+    }
+
+    private record Drained(UUID productId, int amount, long version) {
+    }
+}
@@ -26,7 +26,7 @@ public class Region extends Timestamped {
     @Column(nullable = false)//(단위 : 동)
     private String locality;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "store_id")
     private Stores stores;
 }
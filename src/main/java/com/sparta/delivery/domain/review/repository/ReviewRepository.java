@@ -9,11 +9,12 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
-public interface ReviewRepository extends JpaRepository<Review, UUID>, QuerydslPredicateExecutor<Review> {
+public interface ReviewRepository extends JpaRepository<Review, UUID>, QuerydslPredicateExecutor<Review>, ReviewRepositoryCustom {
     Optional<Review> findByReviewIdAndUserAndDeletedAtIsNull(UUID reviewId, User user);
 
     Page<Review> findAllByUserAndDeletedAtIsNull(User user, Pageable pageable);
@@ -21,4 +22,7 @@ public interface ReviewRepository extends JpaRepository<Review, UUID>, QuerydslP
     Page<Review> findAllByStoresAndDeletedAtIsNull(Stores store, Pageable pageable);
 
     Optional<Review> findByOrder(Order order);
+
+    // 주문 목록의 리뷰를 IN 쿼리 한 번으로 조회
+    List<Review> findAllByOrderIn(Collection<Order> orders);
 }
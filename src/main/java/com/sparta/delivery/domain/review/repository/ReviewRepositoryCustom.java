@@ -0,0 +1,16 @@
+package com.sparta.delivery.domain.review.repository;
+
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface ReviewRepositoryCustom {
+    // 사용자가 작성한 리뷰 목록을 엔티티 대신 응답 DTO 로 조회
+    Page<ReviewResponseDto> searchUserReviews(UUID userId, Pageable pageable);
+
+    // 가게 리뷰 목록을 별점 조건과 함께 응답 DTO 로 조회 (별점 목록이 비어 있으면 조건 없음)
+    Page<ReviewResponseDto> searchStoreReviews(UUID storeId, List<Integer> starList, Pageable pageable);
+}
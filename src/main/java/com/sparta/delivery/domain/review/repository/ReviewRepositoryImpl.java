@@ -0,0 +1,83 @@
+package com.sparta.delivery.domain.review.repository;
+
+import com.querydsl.core.BooleanBuilder;
+import com.querydsl.core.types.Order;
+import com.querydsl.core.types.OrderSpecifier;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.PathBuilder;
+import com.querydsl.jpa.impl.JPAQuery;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
+import com.sparta.delivery.domain.review.entity.QReview;
+import com.sparta.delivery.domain.review.entity.Review;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+public class ReviewRepositoryImpl implements ReviewRepositoryCustom {
+
+    private final JPAQueryFactory jpaQueryFactory;
+    private final QReview review = QReview.review;
+
+    @Override
+    public Page<ReviewResponseDto> searchUserReviews(UUID userId, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(review.user.userId.eq(userId));
+        builder.and(review.deletedAt.isNull());
+
+        return search(builder, pageable);
+    }
+
+    @Override
+    public Page<ReviewResponseDto> searchStoreReviews(UUID storeId, List<Integer> starList, Pageable pageable) {
+        BooleanBuilder builder = new BooleanBuilder();
+        builder.and(review.stores.storeId.eq(storeId));
+        builder.and(review.deletedAt.isNull());
+
+        if (starList != null && !starList.isEmpty()) {
+            builder.and(review.star.in(starList));
+        }
+
+        return search(builder, pageable);
+    }
+
+    /**
+     * 조건에 맞는 리뷰를 응답 DTO 로 바로 조회하는 메서드
+     *
+     * 엔티티를 영속성 컨텍스트에 올리지 않고 필요한 컬럼만 읽습니다. (주문, 사용자, 가게 id 는 외래 키 컬럼에서 읽으므로 join 없음)
+     */
+    private Page<ReviewResponseDto> search(BooleanBuilder builder, Pageable pageable) {
+        JPAQuery<ReviewResponseDto> query = jpaQueryFactory.select(Projections.constructor(ReviewResponseDto.class,
+                        review.reviewId,
+                        review.comment,
+                        review.star,
+                        review.order.orderId,
+                        review.user.userId,
+                        review.stores.storeId))
+                .from(review)
+                .where(builder)
+                .offset(pageable.getOffset())
+                .limit(pageable.getPageSize());
+
+        // PathBuilder를 이용하여 요청한 정렬 컬럼을 동적으로 지정
+        PathBuilder<Review> entityPath = new PathBuilder<>(Review.class, review.getMetadata());
+        for (Sort.Order sortOrder : pageable.getSort()) {
+            query.orderBy(new OrderSpecifier<>(
+                    sortOrder.isAscending() ? Order.ASC : Order.DESC,
+                    Expressions.comparablePath(Comparable.class, entityPath, sortOrder.getProperty())));
+        }
+
+        JPAQuery<Long> countQuery = jpaQueryFactory.select(review.count())
+                .from(review)
+                .where(builder);
+
+        return PageableExecutionUtils.getPage(query.fetch(), pageable, countQuery::fetchOne);
+    }
+}
@@ -1,6 +1,5 @@
 package com.sparta.delivery.domain.review.service;
 
-import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.global.exception.custom.*;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
@@ -8,7 +7,6 @@ import com.sparta.delivery.domain.order.repository.OrderRepository;
 import com.sparta.delivery.domain.review.dto.ReviewRequestDto;
 import com.sparta.delivery.domain.review.dto.ReviewResponseDto;
 import com.sparta.delivery.domain.review.dto.ReviewUpdateRequestDto;
-import com.sparta.delivery.domain.review.entity.QReview;
 import com.sparta.delivery.domain.review.entity.Review;
 import com.sparta.delivery.domain.review.repository.ReviewRepository;
 import com.sparta.delivery.domain.store.entity.Stores;
@@ -16,12 +14,13 @@ import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.store.service.StoreService;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -32,7 +31,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
     private final OrderRepository orderRepository;
     private final StoreRepository storeRepository;
 
@@ -66,35 +65,29 @@ public class ReviewService {
         }
     }
 
+    // 목록 DTO 를 컬럼에서 바로 조회하므로 읽기 전용 트랜잭션으로 실행 (flush, dirty checking 없음)
+    @Transactional(readOnly = true)
     public Page<ReviewResponseDto> getUserReview(String username, Pageable pageable) {
         try {
             User user = getUser(username);
-            Page<Review> reviewList = reviewRepository.findAllByUserAndDeletedAtIsNull(user, pageable);
+            Page<ReviewResponseDto> reviewList = reviewRepository.searchUserReviews(user.getUserId(), pageable);
 
             if(reviewList.isEmpty()) {
                 throw new ReviewNotFoundException("로그인한 사용자가 작성한 리뷰가 존재하지 않습니다.");
             }
 
-            return reviewList.map(Review::toResponseDto);
+            return reviewList;
         } catch (Exception e) {
             throw e;
         }
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewResponseDto> getStoreReviewSearch(UUID storeId, List<Integer> starList, PageRequest pageable) {
         try {
             Stores store = getStores(storeId);
 
-            QReview qReview = QReview.review;
-            BooleanBuilder builder = new BooleanBuilder();
-            builder.and(qReview.stores.eq(store));
-            builder.and(qReview.deletedAt.isNull());
-
-            if(!starList.isEmpty() && starList != null) {
-                builder.and(qReview.star.in(starList));
-            }
-
-            Page<Review> reviewList = reviewRepository.findAll(builder, pageable);
+            Page<ReviewResponseDto> reviewList = reviewRepository.searchStoreReviews(store.getStoreId(), starList, pageable);
 
             if(reviewList.isEmpty()) {
                 if(starList.isEmpty())
@@ -103,7 +96,7 @@ public class ReviewService {
                 throw new ReviewNotFoundException("해당 가게에 조건에 맞는 리뷰가 존재하지 않습니다.");
             }
 
-            return reviewList.map(Review::toResponseDto);
+            return reviewList;
         } catch (Exception e) {
             throw e;
         }
@@ -157,7 +150,7 @@ public class ReviewService {
     }
 
     private User getUser(String username) {
-        return userRepository.findByUsernameAndDeletedAtIsNull(username)
+        return userResolver.findUser(username)
                 .orElseThrow(() -> new UserNotFoundException("존재하지 않거나 탈퇴한 유저입니다."));
     }
 
@@ -44,7 +44,7 @@ public class Stores extends Timestamped {
     @OneToMany(mappedBy = "stores")
     private List<Order> orderList = new ArrayList<>();
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     User user;
 
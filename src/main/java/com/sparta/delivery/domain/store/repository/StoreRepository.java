@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.security.core.parameters.P;
 
 import javax.swing.plaf.synth.Region;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -18,6 +19,9 @@ public interface StoreRepository extends JpaRepository<Stores, UUID>, StoreRepos
 
     boolean existsByStoreIdAndDeletedAtIsNull(UUID storeId);
 
+    // id 목록 중 삭제되지 않은 가게 수 (존재 여부를 count 쿼리 한 번으로 확인)
+    long countByStoreIdInAndDeletedAtIsNull(Collection<UUID> storeIds);
+
     List<Stores> findByCategory(Category category);
 
     Optional<Stores> findByStoreIdAndDeletedAtIsNull(UUID id);// 가게 단건검색
@@ -13,7 +13,7 @@ import com.sparta.delivery.domain.store.enums.Category;
 import com.sparta.delivery.domain.store.repository.StoreRepository;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -31,12 +31,12 @@ import java.util.stream.Collectors;
 public class StoreService {
 
     private final StoreRepository storeRepository;
-    private final UserRepository userRepository;
+    private final UserResolver userResolver;
 
     @Transactional
     public StoreResDto storeCreate(StoreReqDto storereqdto, PrincipalDetails userDetails) {//가게 저장
         Stores store = reqDtoToEntity(storereqdto);
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(userDetails.getUsername()).orElseThrow(() -> new UserNotFoundException("해당 유저가 존재하지 않습니다"));
+        User user = userResolver.getReference(userDetails.getUsername()).orElseThrow(() -> new UserNotFoundException("해당 유저가 존재하지 않습니다"));
         store.setUser(user);
         return entityToResDto(storeRepository.save(store));
     }
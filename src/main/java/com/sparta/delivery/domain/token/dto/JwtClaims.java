@@ -0,0 +1,31 @@
+package com.sparta.delivery.domain.token.dto;
+
+import com.sparta.delivery.domain.user.enums.UserRoles;
+
+import java.time.Instant;
+
+/**
+ * 서명 검증이 끝난 JWT payload 값을 담는 불변 객체
+ *
+ * JwtUtil.parseToken 으로 한 번만 파싱한 결과를 필터와 서비스에서 그대로 사용합니다.
+ *
+ * @param category 토큰의 카테고리 ("access", "refresh")
+ * @param username 사용자 이름
+ * @param email 사용자 이메일
+ * @param role 사용자 역할
+ * @param expiration 토큰 만료 시각
+ */
+public record JwtClaims(String category,
+                        String username,
+                        String email,
+                        UserRoles role,
+                        Instant expiration) {
+
+    public boolean isAccessToken() {
+        return "access".equals(category);
+    }
+
+    public boolean isRefreshToken() {
+        return "refresh".equals(category);
+    }
+}
@@ -0,0 +1,21 @@
+package com.sparta.delivery.domain.token.dto;
+
+import com.sparta.delivery.domain.user.enums.UserRoles;
+
+import java.util.UUID;
+
+/**
+ * refresh token 주인의 access token 재발급에 필요한 값만 담는 객체
+ *
+ * 재발급 시 User 엔티티 전체를 로딩하지 않고 이 값만 조회합니다.
+ *
+ * @param userId 사용자 id
+ * @param username 사용자 이름
+ * @param email 사용자 이메일
+ * @param role 사용자 역할
+ */
+public record RefreshTokenOwner(UUID userId,
+                                String username,
+                                String email,
+                                UserRoles role) {
+}
@@ -7,6 +7,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
@@ -14,7 +15,10 @@ import java.util.UUID;
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor
-@Table(name = "p_refresh_token")
+@Table(name = "p_refresh_token", indexes = {
+        // 만료된 토큰 범위 조회용
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+})
 public class RefreshToken {
 
     @Id
@@ -31,7 +35,16 @@ public class RefreshToken {
     @Column(nullable = false , length = 512)
     private String refresh;
 
-    // refresh 토큰 유효시간
-    @Column(nullable = false)
-    private String expiration;
+    // refresh 토큰의 SHA-256 digest (모든 조회는 이 컬럼의 unique index 사용)
+    // 기존 행은 RefreshTokenMigration 에서 채우므로 DB 상으로는 nullable
+    @Column(name = "token_hash", length = 64, unique = true)
+    private String tokenHash;
+
+    // refresh 토큰 만료 시각
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt == null || !expiresAt.isAfter(now);
+    }
 }
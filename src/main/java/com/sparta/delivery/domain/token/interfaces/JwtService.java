@@ -11,4 +11,6 @@ public interface JwtService {
     boolean isTokenExpired(String token);
 
     String getCategory(String token);
+
+    String getUsername(String token);
 }
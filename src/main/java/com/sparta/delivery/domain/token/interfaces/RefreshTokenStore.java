@@ -0,0 +1,25 @@
+package com.sparta.delivery.domain.token.interfaces;
+
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * refresh token 저장소
+ *
+ * 모든 토큰은 원문이 아닌 SHA-256 digest(tokenHash) 로 식별합니다.
+ * 구현체는 spring.jwt.refresh-store 설정 값(jpa, memory, redis)으로 선택합니다.
+ */
+public interface RefreshTokenStore {
+
+    // 사용자에게 만료되지 않은 토큰이 없을 때만 저장 (만료된 기존 토큰은 교체), 저장되었으면 true
+    boolean saveIfNoActiveToken(RefreshTokenOwner owner, String refresh, String tokenHash,
+                                LocalDateTime expiresAt, LocalDateTime now);
+
+    // 만료되지 않은 토큰의 주인 조회
+    Optional<RefreshTokenOwner> findOwner(String tokenHash, LocalDateTime now);
+
+    // 토큰 제거 (제거되었으면 true)
+    boolean delete(String tokenHash);
+}
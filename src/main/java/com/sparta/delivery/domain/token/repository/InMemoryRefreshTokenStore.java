@@ -0,0 +1,115 @@
+package com.sparta.delivery.domain.token.repository;
+
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenStore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 프로세스 메모리에 refresh token 을 보관하는 저장소
+ *
+ * 재발급, 로그아웃 시 DB 를 거치지 않지만, 인스턴스 간에 공유되지 않고 재시작 시 모든 토큰이 사라집니다.
+ * 단일 인스턴스 또는 sticky session 환경에서만 사용해야 합니다.
+ *
+ * 1. tokenHash -> 토큰 정보, userId -> tokenHash 두 개의 map 으로 관리
+ * 2. 조회 시 만료된 토큰은 없는 것으로 처리하고 제거
+ * 3. 조회되지 않는 만료 토큰은 주기적으로 제거 (TTL eviction)
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jwt.refresh-store", havingValue = "memory")
+public class InMemoryRefreshTokenStore implements RefreshTokenStore {
+
+    private final Map<String, StoredToken> tokens = new ConcurrentHashMap<>();
+    private final Map<UUID, String> tokenHashByUser = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean saveIfNoActiveToken(RefreshTokenOwner owner, String refresh, String tokenHash,
+                                       LocalDateTime expiresAt, LocalDateTime now) {
+        boolean[] saved = {false};
+
+        // 사용자 단위로 원자적으로 검사 후 교체
+        tokenHashByUser.compute(owner.userId(), (userId, previousHash) -> {
+            if (previousHash != null) {
+                StoredToken previous = tokens.get(previousHash);
+                if (previous != null && previous.expiresAt().isAfter(now)) {
+                    return previousHash;
+                }
+                tokens.remove(previousHash);
+            }
+
+            tokens.put(tokenHash, new StoredToken(owner, expiresAt));
+            saved[0] = true;
+            return tokenHash;
+        });
+
+        return saved[0];
+    }
+
+    @Override
+    public Optional<RefreshTokenOwner> findOwner(String tokenHash, LocalDateTime now) {
+        StoredToken storedToken = tokens.get(tokenHash);
+        if (storedToken == null) {
+            return Optional.empty();
+        }
+
+        if (!storedToken.expiresAt().isAfter(now)) {
+            remove(tokenHash, storedToken);
+            return Optional.empty();
+        }
+
+        return Optional.of(storedToken.owner());
+    }
+
+    @Override
+    public boolean delete(String tokenHash) {
+        StoredToken storedToken = tokens.remove(tokenHash);
+        if (storedToken == null) {
+            return false;
+        }
+
+        tokenHashByUser.remove(storedToken.owner().userId(), tokenHash);
+        return true;
+    }
+
+    /**
+     * 만료된 토큰을 제거하는 메서드
+     *
+     * @return 제거된 토큰 수
+     */
+    @Scheduled(fixedDelayString = "${spring.jwt.reaper.interval-ms:600000}")
+    public int evictExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int evicted = 0;
+
+        for (Map.Entry<String, StoredToken> entry : tokens.entrySet()) {
+            if (!entry.getValue().expiresAt().isAfter(now) && remove(entry.getKey(), entry.getValue())) {
+                evicted++;
+            }
+        }
+
+        return evicted;
+    }
+
+    public int size() {
+        return tokens.size();
+    }
+
+    private boolean remove(String tokenHash, StoredToken storedToken) {
+        if (!tokens.remove(tokenHash, storedToken)) {
+            return false;
+        }
+
+        tokenHashByUser.remove(storedToken.owner().userId(), tokenHash);
+        return true;
+    }
+
+    private record StoredToken(RefreshTokenOwner owner, LocalDateTime expiresAt) {
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.delivery.domain.token.repository;
+
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * p_refresh_token 테이블을 사용하는 refresh token 저장소 (기본값)
+ *
+ * 여러 backend 인스턴스가 같은 DB 를 보므로 인스턴스 간에 토큰이 공유됩니다.
+ * 만료된 행은 RefreshTokenReaper 가 제거합니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "spring.jwt.refresh-store", havingValue = "jpa", matchIfMissing = true)
+public class JpaRefreshTokenStore implements RefreshTokenStore {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @Override
+    public boolean saveIfNoActiveToken(RefreshTokenOwner owner, String refresh, String tokenHash,
+                                       LocalDateTime expiresAt, LocalDateTime now) {
+        try {
+            return refreshTokenRepository.upsertIfExpired(UUID.randomUUID(), owner.userId(), refresh, tokenHash, expiresAt, now) > 0;
+        } catch (DataIntegrityViolationException e) {
+            // 같은 사용자의 로그인이 동시에 insert 를 시도한 경우 (user_id unique) 먼저 저장된 토큰이 유효
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<RefreshTokenOwner> findOwner(String tokenHash, LocalDateTime now) {
+        return refreshTokenRepository.findOwnerByTokenHash(tokenHash, now);
+    }
+
+    @Override
+    public boolean delete(String tokenHash) {
+        return refreshTokenRepository.deleteByTokenHash(tokenHash) > 0;
+    }
+}
@@ -0,0 +1,172 @@
+package com.sparta.delivery.domain.token.repository;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenStore;
+import jakarta.annotation.PreDestroy;
+import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import redis.clients.jedis.Connection;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPooled;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 네트워크 KV 저장소(Redis)에 refresh token 을 보관하는 저장소
+ *
+ * 재발급, 로그아웃 시 DB 를 거치지 않으면서도 모든 인스턴스가 같은 토큰을 공유합니다.
+ *
+ * 1. {prefix}token:{tokenHash} -> 토큰 주인과 만료 시각 (JSON), {prefix}user:{userId} -> tokenHash 두 개의 key 로 관리
+ * 2. 두 key 모두 토큰 만료 시각에 맞춘 TTL 로 저장하므로 만료된 토큰은 저장소에서 제거 (별도 reaper 불필요)
+ * 3. 사용자 key 를 SET NX 로 선점하여, 만료되지 않은 토큰이 있는 사용자에게는 새 토큰을 저장하지 않음
+ * 4. 저장(사용자 key 선점 + 토큰 key 저장)과 제거(토큰 key 제거 + 사용자 key 비교 후 제거)는 각각 Lua 스크립트(EVAL)로 원자적으로 처리
+ *
+ * 저장, 조회는 한 번의 왕복, 제거는 토큰 조회(사용자 key 확인)와 스크립트 실행 두 번의 왕복으로 처리되며, 커넥션은 pool 로 재사용합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.jwt.refresh-store", havingValue = "redis")
+public class RedisRefreshTokenStore implements RefreshTokenStore {
+
+    // KEYS : 사용자 key, 토큰 key / ARGV : tokenHash, 토큰 정보(JSON), TTL (밀리초)
+    public static final String SAVE_SCRIPT = """
+            if not redis.call('SET', KEYS[1], ARGV[1], 'NX', 'PX', ARGV[3]) then
+                return 0
+            end
+            redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3])
+            return 1
+            """;
+
+    // KEYS : 토큰 key, 사용자 key / ARGV : tokenHash
+    public static final String DELETE_SCRIPT = """
+            if redis.call('DEL', KEYS[1]) == 0 then
+                return 0
+            end
+            if redis.call('GET', KEYS[2]) == ARGV[1] then
+                redis.call('DEL', KEYS[2])
+            end
+            return 1
+            """;
+
+    private final JedisPooled jedis;
+    private final ObjectMapper objectMapper;
+    private final String keyPrefix; // 다른 데이터와 구분하기 위한 key 접두사
+
+    /**
+     * RedisRefreshTokenStore 생성자
+     *
+     * @param objectMapper 토큰 정보 직렬화용 ObjectMapper
+     * @param host 저장소 호스트
+     * @param port 저장소 포트
+     * @param timeoutMs 연결, 응답 대기 시간 (밀리초 단위)
+     * @param maxConnections 최대 커넥션 수
+     * @param keyPrefix key 접두사
+     */
+    public RedisRefreshTokenStore(ObjectMapper objectMapper,
+                                  @Value("${spring.jwt.redis.host:localhost}") String host,
+                                  @Value("${spring.jwt.redis.port:6379}") int port,
+                                  @Value("${spring.jwt.redis.timeout-ms:1000}") int timeoutMs,
+                                  @Value("${spring.jwt.redis.max-connections:16}") int maxConnections,
+                                  @Value("${spring.jwt.redis.key-prefix:refresh:}") String keyPrefix) {
+        GenericObjectPoolConfig<Connection> poolConfig = new GenericObjectPoolConfig<>();
+        poolConfig.setMaxTotal(maxConnections);
+        poolConfig.setMaxIdle(maxConnections);
+
+        this.jedis = new JedisPooled(poolConfig, new HostAndPort(host, port),
+                DefaultJedisClientConfig.builder().timeoutMillis(timeoutMs).build());
+        this.objectMapper = objectMapper;
+        this.keyPrefix = keyPrefix;
+    }
+
+    @Override
+    public boolean saveIfNoActiveToken(RefreshTokenOwner owner, String refresh, String tokenHash,
+                                       LocalDateTime expiresAt, LocalDateTime now) {
+        long ttlMs = Duration.between(now, expiresAt).toMillis();
+        if (ttlMs <= 0) {
+            return false;
+        }
+
+        // 만료되지 않은 토큰이 있으면 사용자 key 가 남아 있으므로 실패 (만료되면 TTL 로 제거되어 다시 저장 가능)
+        Object saved = jedis.eval(SAVE_SCRIPT,
+                List.of(userKey(owner.userId()), tokenKey(tokenHash)),
+                List.of(tokenHash, toJson(new StoredToken(owner, toEpochMilli(expiresAt))), String.valueOf(ttlMs)));
+        return Long.valueOf(1).equals(saved);
+    }
+
+    @Override
+    public Optional<RefreshTokenOwner> findOwner(String tokenHash, LocalDateTime now) {
+        String value = jedis.get(tokenKey(tokenHash));
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        // TTL 이 지나기 직전의 토큰도 만료 시각 기준으로 걸러냄
+        StoredToken storedToken = fromJson(value);
+        if (storedToken.expiresAt() <= toEpochMilli(now)) {
+            return Optional.empty();
+        }
+        return Optional.of(storedToken.owner());
+    }
+
+    @Override
+    public boolean delete(String tokenHash) {
+        // 토큰 key 에서 사용자를 확인 (tokenHash 의 주인은 바뀌지 않으므로 스크립트 실행 전에 조회해도 됨)
+        String tokenKey = tokenKey(tokenHash);
+        String value = jedis.get(tokenKey);
+        if (value == null) {
+            return false;
+        }
+
+        // 사용자 key 는 이 토큰을 가리킬 때만 제거 (그 사이 만료되어 다른 토큰이 저장되었으면 유지)
+        Object deleted = jedis.eval(DELETE_SCRIPT,
+                List.of(tokenKey, userKey(fromJson(value).owner().userId())),
+                List.of(tokenHash));
+        return Long.valueOf(1).equals(deleted);
+    }
+
+    @PreDestroy
+    public void close() {
+        jedis.close();
+    }
+
+    private String tokenKey(String tokenHash) {
+        return keyPrefix + "token:" + tokenHash;
+    }
+
+    private String userKey(UUID userId) {
+        return keyPrefix + "user:" + userId;
+    }
+
+    private long toEpochMilli(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    private String toJson(StoredToken storedToken) {
+        try {
+            return objectMapper.writeValueAsString(storedToken);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("refresh token 정보를 저장할 수 없습니다.", e);
+        }
+    }
+
+    private StoredToken fromJson(String value) {
+        try {
+            return objectMapper.readValue(value, StoredToken.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("저장된 refresh token 정보를 읽을 수 없습니다.", e);
+        }
+    }
+
+    // 토큰 주인과 만료 시각 (epoch 밀리초)
+    private record StoredToken(RefreshTokenOwner owner, long expiresAt) {
+    }
+}
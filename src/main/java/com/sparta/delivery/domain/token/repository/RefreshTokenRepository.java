@@ -1,20 +1,72 @@
 package com.sparta.delivery.domain.token.repository;
 
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
 import com.sparta.delivery.domain.token.entity.RefreshToken;
-import com.sparta.delivery.domain.user.entity.User;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface RefreshTokenRepository extends JpaRepository<RefreshToken , UUID> {
 
-    Optional<RefreshToken> findByUser(User user);
+    /**
+     * 사용자에게 만료되지 않은 토큰이 없을 때만 refresh token 을 저장하는 단일 upsert 문
+     *
+     * - 행이 없으면 insert
+     * - 만료된 행이 있으면 같은 행을 새 토큰으로 update (user_id unique)
+     * - 만료되지 않은 행이 있으면 아무것도 하지 않음 (0 반환)
+     *
+     * 테스트, 벤치마크용 H2 가 INSERT ... ON CONFLICT DO UPDATE 를 지원하지 않아 두 DB 가 모두 실행할 수 있는 MERGE 문(PostgreSQL 15+)을 사용합니다.
+     * 동시성 동작은 DB 마다 다릅니다. PostgreSQL 의 MERGE 는 ON CONFLICT 와 달리 동시에 insert 된 행을 기다려 update 로 바꾸지 않고
+     * user_id unique 위반으로 실패하므로, 호출하는 쪽(JpaRefreshTokenStore)에서 이를 저장 실패로 처리합니다.
+     */
+    @Transactional
+    @Modifying
+    @Query(value = "merge into p_refresh_token t " +
+            "using (select cast(:userId as uuid) as user_id) s on t.user_id = s.user_id " +
+            "when matched and (t.expires_at is null or t.expires_at <= :now) then " +
+            "update set refresh = :refresh, token_hash = :tokenHash, expires_at = :expiresAt " +
+            "when not matched then " +
+            "insert (refresh_token_id, user_id, refresh, token_hash, expires_at) " +
+            "values (:id, s.user_id, :refresh, :tokenHash, :expiresAt)",
+            nativeQuery = true)
+    int upsertIfExpired(@Param("id") UUID id,
+                        @Param("userId") UUID userId,
+                        @Param("refresh") String refresh,
+                        @Param("tokenHash") String tokenHash,
+                        @Param("expiresAt") LocalDateTime expiresAt,
+                        @Param("now") LocalDateTime now);
 
-    Optional<RefreshToken> findByRefresh(String refresh);
+    // token_hash unique index 를 이용한 단건 조회
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
 
-    Boolean existsByRefresh(String refresh);
+    // 재발급에 필요한 사용자 정보만 join 한 번으로 조회 (User 엔티티 로딩 없음)
+    @Query("select new com.sparta.delivery.domain.token.dto.RefreshTokenOwner(u.userId, u.username, u.email, u.role) " +
+            "from RefreshToken t join t.user u " +
+            "where t.tokenHash = :tokenHash and t.expiresAt > :now")
+    Optional<RefreshTokenOwner> findOwnerByTokenHash(@Param("tokenHash") String tokenHash, @Param("now") LocalDateTime now);
 
-    void deleteByRefresh(String refresh);
+    // 조회 없이 한 번의 delete 문으로 제거 (제거된 행 수 반환)
+    @Transactional
+    @Modifying
+    @Query("delete from RefreshToken t where t.tokenHash = :tokenHash")
+    int deleteByTokenHash(@Param("tokenHash") String tokenHash);
+
+    // 만료된 토큰을 expires_at index 범위 조회로 가져오면서 잠금 (다른 인스턴스가 잠근 행은 건너뜀 : SKIP LOCKED)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select t from RefreshToken t where t.expiresAt <= :now order by t.expiresAt")
+    List<RefreshToken> findExpiredForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
 
 }
@@ -79,4 +79,15 @@ public class JwtServiceImpl implements JwtService {
     public String getCategory(String token) {
         return jwtUtil.getCategory(token);
     }
+
+    /**
+     * JWT 토큰에서 username 값을 추출하는 메서드
+     *
+     * @param token JWT 토큰
+     * @return 토큰에 포함된 username 값
+     */
+    @Override
+    public String getUsername(String token) {
+        return jwtUtil.getUsername(token);
+    }
 }
@@ -1,7 +1,9 @@
 package com.sparta.delivery.domain.token.service;
 
+import com.sparta.delivery.domain.token.dto.JwtClaims;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
@@ -16,6 +18,9 @@ public class JwtUtil {
 
     private final SecretKey secretKey;
 
+    // 서명 검증용 parser (불변 객체로 thread-safe 하므로 한 번만 생성해 재사용)
+    private final JwtParser jwtParser;
+
     /**
      * JwtUtil 생성자
      *
@@ -25,7 +30,31 @@ public class JwtUtil {
     public JwtUtil(@Value("${spring.jwt.secret}") String secretKey) {
         this.secretKey = new SecretKeySpec(secretKey.getBytes(StandardCharsets.UTF_8),
                 Jwts.SIG.HS256.key().build().getAlgorithm());
+        this.jwtParser = Jwts.parser()
+                .verifyWith(this.secretKey)
+                .build();
+    }
+
+    /**
+     * JWT 토큰을 한 번만 파싱/서명 검증하여 필요한 claim 을 모두 추출하는 메서드
+     *
+     * 만료된 토큰은 파싱 단계에서 ExpiredJwtException 이 발생하므로 별도의 만료 검사가 필요하지 않습니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 claim 값을 담은 JwtClaims 객체
+     * @throws io.jsonwebtoken.JwtException 토큰이 만료되었거나 서명, 형식이 잘못된 경우
+     * @throws IllegalArgumentException role 값이 존재하지 않는 역할인 경우
+     */
+    public JwtClaims parseToken(String token) {
+        Claims claims = parseClaims(token);
 
+        return new JwtClaims(
+                claims.get("category", String.class),
+                claims.get("username", String.class),
+                claims.get("email", String.class),
+                UserRoles.fromString(claims.get("role", String.class)),
+                claims.getExpiration().toInstant()
+        );
     }
 
 
@@ -119,9 +148,7 @@ public class JwtUtil {
      * @return 파싱된 Claims 객체
      */
     private Claims parseClaims(String token) {
-        return Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
+        return jwtParser
                 .parseSignedClaims(token)
                 .getPayload();
     }
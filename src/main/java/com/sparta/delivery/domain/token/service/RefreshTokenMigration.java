@@ -0,0 +1,98 @@
+package com.sparta.delivery.domain.token.service;
+
+import com.sparta.delivery.domain.token.dto.JwtClaims;
+import io.jsonwebtoken.JwtException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+/**
+ * p_refresh_token 테이블을 token_hash / expires_at 기반 구조로 옮기는 마이그레이션
+ *
+ * ddl-auto: update 는 새 컬럼과 index 만 추가하고 기존 데이터는 건드리지 않으므로,
+ * 애플리케이션 시작 시 다음 절차를 수행합니다.
+ * 1. 기존 expiration(Date.toString() 문자열) 컬럼이 남아 있으면 NOT NULL 제약 해제 (새 엔티티는 값을 넣지 않음)
+ * 2. token_hash 가 비어 있는 기존 행의 digest 와 만료 시각을 토큰 payload 에서 계산해 채움
+ *    - 이미 만료되었거나 검증할 수 없는 토큰은 제거
+ *
+ * 모든 단계가 멱등이므로 두 backend 컨테이너가 동시에 실행해도 안전합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenMigration implements ApplicationRunner {
+
+    private static final String TABLE_NAME = "p_refresh_token";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final JwtUtil jwtUtil;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        dropLegacyExpirationConstraint();
+        backfillTokenHash();
+    }
+
+    private void dropLegacyExpirationConstraint() {
+        Integer legacyColumns = jdbcTemplate.queryForObject(
+                "select count(*) from information_schema.columns " +
+                        "where lower(table_name) = ? and lower(column_name) = 'expiration'",
+                Integer.class, TABLE_NAME);
+
+        if (legacyColumns != null && legacyColumns > 0) {
+            jdbcTemplate.execute("alter table " + TABLE_NAME + " alter column expiration drop not null");
+        }
+    }
+
+    private void backfillTokenHash() {
+        List<LegacyToken> legacyTokens = jdbcTemplate.query(
+                "select refresh_token_id, refresh from " + TABLE_NAME + " where token_hash is null",
+                (rs, rowNum) -> new LegacyToken(rs.getObject("refresh_token_id"), rs.getString("refresh")));
+
+        if (legacyTokens.isEmpty()) {
+            return;
+        }
+
+        int migrated = 0;
+        int removed = 0;
+
+        for (LegacyToken legacyToken : legacyTokens) {
+            LocalDateTime expiresAt = expiresAtOf(legacyToken.refresh());
+
+            if (expiresAt == null || !expiresAt.isAfter(LocalDateTime.now())) {
+                removed += jdbcTemplate.update(
+                        "delete from " + TABLE_NAME + " where refresh_token_id = ? and token_hash is null",
+                        legacyToken.id());
+                continue;
+            }
+
+            migrated += jdbcTemplate.update(
+                    "update " + TABLE_NAME + " set token_hash = ?, expires_at = ? " +
+                            "where refresh_token_id = ? and token_hash is null",
+                    TokenDigest.sha256(legacyToken.refresh()), Timestamp.valueOf(expiresAt), legacyToken.id());
+        }
+
+        log.info("Refresh token migration finished. migrated={}, removed={}", migrated, removed);
+    }
+
+    // 만료되었거나 서명이 잘못된 토큰은 null 반환
+    private LocalDateTime expiresAtOf(String refresh) {
+        try {
+            JwtClaims claims = jwtUtil.parseToken(refresh);
+            return LocalDateTime.ofInstant(claims.expiration(), ZoneId.systemDefault());
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private record LegacyToken(Object id, String refresh) {
+    }
+}
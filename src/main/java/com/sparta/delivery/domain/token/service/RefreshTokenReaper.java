@@ -0,0 +1,113 @@
+package com.sparta.delivery.domain.token.service;
+
+import com.sparta.delivery.domain.token.entity.RefreshToken;
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 만료된 refresh token 을 주기적으로 제거하는 reaper
+ *
+ * 1. expires_at index 로 만료된 행을 chunkSize 개씩 잠금 조회 (SKIP LOCKED)
+ * 2. 조회한 행을 id 기준 delete 한 번으로 제거
+ * 3. chunk 마다 별도 트랜잭션으로 커밋해 잠금을 짧게 유지
+ *
+ * 다른 컨테이너가 이미 잠근 행은 건너뛰므로 두 backend 인스턴스가 동시에 실행해도 같은 행을 두고 대기하지 않습니다.
+ * jpa 저장소를 사용할 때만 등록됩니다. (memory 저장소는 자체적으로 만료 토큰을 제거)
+ */
+@Slf4j
+@Component
+@ConditionalOnExpression("${spring.jwt.reaper.enabled:true} and '${spring.jwt.refresh-store:jpa}' == 'jpa'")
+public class RefreshTokenReaper {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    private final int chunkSize; // 한 트랜잭션에서 제거할 최대 행 수
+    private final int maxChunks; // 한 번 실행에서 처리할 최대 chunk 수
+
+    private final Counter deletedCounter;
+    private final Timer runTimer;
+
+    /**
+     * RefreshTokenReaper 생성자
+     *
+     * @param refreshTokenRepository 리프레쉬 토큰을 데이터베이스에서 관리하는 Repository
+     * @param transactionTemplate chunk 단위 트랜잭션을 위한 TransactionTemplate
+     * @param meterRegistry 제거된 행 수와 실행 시간을 등록할 registry
+     * @param chunkSize 한 트랜잭션에서 제거할 최대 행 수
+     * @param maxChunks 한 번 실행에서 처리할 최대 chunk 수
+     */
+    public RefreshTokenReaper(RefreshTokenRepository refreshTokenRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${spring.jwt.reaper.chunk-size:500}") int chunkSize,
+                              @Value("${spring.jwt.reaper.max-chunks:100}") int maxChunks) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.chunkSize = chunkSize;
+        this.maxChunks = maxChunks;
+
+        this.deletedCounter = meterRegistry.counter("refresh.token.reaper.deleted");
+        this.runTimer = meterRegistry.timer("refresh.token.reaper.duration");
+    }
+
+    @Scheduled(initialDelayString = "${spring.jwt.reaper.initial-delay-ms:60000}",
+            fixedDelayString = "${spring.jwt.reaper.interval-ms:600000}")
+    public void scheduledReap() {
+        reapExpiredTokens();
+    }
+
+    /**
+     * 만료된 refresh token 을 chunk 단위로 제거하는 메서드
+     *
+     * @return 이번 실행에서 제거된 행 수
+     */
+    public int reapExpiredTokens() {
+        long start = System.nanoTime();
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+
+        for (int chunk = 0; chunk < maxChunks; chunk++) {
+            Integer chunkDeleted = transactionTemplate.execute(status -> deleteChunk(now));
+            deleted += chunkDeleted;
+
+            if (chunkDeleted < chunkSize) {
+                break;
+            }
+        }
+
+        long elapsedNanos = System.nanoTime() - start;
+        runTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        deletedCounter.increment(deleted);
+
+        if (deleted > 0) {
+            log.info("Expired refresh tokens reaped. deleted={}, elapsedMs={}", deleted, elapsedNanos / 1_000_000);
+        }
+
+        return deleted;
+    }
+
+    private int deleteChunk(LocalDateTime now) {
+        List<RefreshToken> expiredTokens = refreshTokenRepository.findExpiredForUpdate(now, PageRequest.of(0, chunkSize));
+
+        if (expiredTokens.isEmpty()) {
+            return 0;
+        }
+
+        refreshTokenRepository.deleteAllInBatch(expiredTokens);
+        return expiredTokens.size();
+    }
+}
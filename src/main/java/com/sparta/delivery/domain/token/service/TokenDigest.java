@@ -0,0 +1,32 @@
+package com.sparta.delivery.domain.token.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * 토큰 원문 대신 사용할 고정 길이(64자) SHA-256 digest 를 만드는 유틸
+ */
+public final class TokenDigest {
+
+    private TokenDigest() {
+    }
+
+    /**
+     * 토큰의 SHA-256 digest 를 16진수 문자열로 반환하는 메서드
+     *
+     * @param token JWT 토큰
+     * @return 64자 16진수 digest
+     */
+    public static String sha256(String token) {
+        try {
+            MessageDigest messageDigest = MessageDigest.getInstance("SHA-256");
+            byte[] hash = messageDigest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash);
+        } catch (NoSuchAlgorithmException e) {
+            // 모든 JVM 은 SHA-256 을 지원해야 하므로 발생하지 않음
+            throw new IllegalStateException("SHA-256 algorithm not available", e);
+        }
+    }
+}
@@ -0,0 +1,158 @@
+package com.sparta.delivery.domain.token.service;
+
+import com.sparta.delivery.domain.token.dto.JwtClaims;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증이 끝난 access token 의 claim 을 보관하는 캐시
+ *
+ * 동일한 access token 이 유효시간(1시간) 동안 반복해서 들어오므로,
+ * 한 번 검증된 토큰은 HMAC 검증과 claim 파싱 없이 바로 사용합니다.
+ *
+ * 1. 토큰 원문이 아닌 SHA-256 digest 를 key 로 사용
+ * 2. 엔트리는 토큰의 exp 와 설정된 TTL 중 더 이른 시각에 만료
+ * 3. 최대 크기를 넘으면 만료된 엔트리부터 제거하고, 그래도 부족하면 임의의 엔트리를 제거
+ * 4. 로그아웃, 회원 삭제 등으로 더 이상 쓰이면 안 되는 토큰은 invalidate 로 명시적으로 제거
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtUtil jwtUtil;
+
+    private final int maxSize; // 최대 엔트리 수
+    private final long ttlMs; // 엔트리 최대 보관 시간 (밀리초 단위)
+
+    private final Map<String, CachedClaims> cache = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter expiredEvictionCounter;
+    private final Counter sizeEvictionCounter;
+    private final Counter invalidationCounter;
+
+    /**
+     * VerifiedTokenCache 생성자
+     *
+     * @param jwtUtil JwtUtil 객체 (캐시 miss 시 토큰 검증)
+     * @param meterRegistry 캐시 hit/miss/eviction 지표를 등록할 registry
+     * @param maxSize 캐시 최대 엔트리 수
+     * @param ttlMs 엔트리 최대 보관 시간 (밀리초 단위)
+     */
+    public VerifiedTokenCache(JwtUtil jwtUtil,
+                              MeterRegistry meterRegistry,
+                              @Value("${spring.jwt.cache.max-size:10000}") int maxSize,
+                              @Value("${spring.jwt.cache.ttl-ms:600000}") long ttlMs) {
+        this.jwtUtil = jwtUtil;
+        this.maxSize = maxSize;
+        this.ttlMs = ttlMs;
+
+        this.hitCounter = meterRegistry.counter("jwt.token.cache.requests", "result", "hit");
+        this.missCounter = meterRegistry.counter("jwt.token.cache.requests", "result", "miss");
+        this.expiredEvictionCounter = meterRegistry.counter("jwt.token.cache.evictions", "cause", "expired");
+        this.sizeEvictionCounter = meterRegistry.counter("jwt.token.cache.evictions", "cause", "size");
+        this.invalidationCounter = meterRegistry.counter("jwt.token.cache.evictions", "cause", "invalidated");
+        Gauge.builder("jwt.token.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    /**
+     * 검증된 토큰의 claim 을 반환하는 메서드
+     *
+     * 캐시에 유효한 엔트리가 있으면 그대로 반환하고, 없으면 JwtUtil 로 검증한 뒤 캐시에 저장합니다.
+     * 검증에 실패한 토큰은 캐시에 저장되지 않습니다.
+     *
+     * @param token JWT 토큰
+     * @return 검증된 claim 값을 담은 JwtClaims 객체
+     * @throws io.jsonwebtoken.JwtException 토큰이 만료되었거나 서명, 형식이 잘못된 경우
+     */
+    public JwtClaims getVerifiedClaims(String token) {
+        String key = TokenDigest.sha256(token);
+        long now = System.currentTimeMillis();
+
+        CachedClaims cached = cache.get(key);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                hitCounter.increment();
+                return cached.claims();
+            }
+
+            if (cache.remove(key, cached)) {
+                expiredEvictionCounter.increment();
+            }
+        }
+
+        missCounter.increment();
+
+        JwtClaims claims = jwtUtil.parseToken(token);
+        put(key, claims, now);
+
+        return claims;
+    }
+
+    /**
+     * 특정 토큰을 캐시에서 제거하는 메서드
+     *
+     * @param token 제거할 JWT 토큰
+     */
+    public void invalidate(String token) {
+        if (cache.remove(TokenDigest.sha256(token)) != null) {
+            invalidationCounter.increment();
+        }
+    }
+
+    /**
+     * 특정 사용자의 토큰을 모두 캐시에서 제거하는 메서드 (로그아웃, 권한 변경, 회원 삭제 시 사용)
+     *
+     * @param username 토큰을 제거할 사용자 이름
+     */
+    public void invalidateUser(String username) {
+        Iterator<CachedClaims> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().claims().username().equals(username)) {
+                iterator.remove();
+                invalidationCounter.increment();
+            }
+        }
+    }
+
+    private void put(String key, JwtClaims claims, long now) {
+        if (cache.size() >= maxSize) {
+            evict(now);
+        }
+
+        long expiresAt = Math.min(claims.expiration().toEpochMilli(), now + ttlMs);
+        cache.put(key, new CachedClaims(claims, expiresAt));
+    }
+
+    /**
+     * 만료된 엔트리를 먼저 제거하고, 그래도 최대 크기의 90% 이상이면 임의의 엔트리를 제거하는 메서드
+     * 한 번에 10% 의 여유 공간을 만들어 가득 찬 상태에서 매 요청마다 전체 탐색하지 않도록 합니다.
+     */
+    private void evict(long now) {
+        Iterator<CachedClaims> iterator = cache.values().iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().expiresAt() <= now) {
+                iterator.remove();
+                expiredEvictionCounter.increment();
+            }
+        }
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        iterator = cache.values().iterator();
+        while (cache.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            sizeEvictionCounter.increment();
+        }
+    }
+
+    private record CachedClaims(JwtClaims claims, long expiresAt) {
+    }
+}
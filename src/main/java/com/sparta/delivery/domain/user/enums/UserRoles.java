@@ -2,6 +2,9 @@ package com.sparta.delivery.domain.user.enums;
 
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 public enum UserRoles {
     ROLE_CUSTOMER("ROLE_CUSTOMER"),  // 일반 사용자 (고객)
@@ -11,6 +14,10 @@ public enum UserRoles {
 
     private final String role;
 
+    // 문자열 -> 역할 조회용 (요청마다 values() 배열 복사와 stream 생성을 하지 않도록 미리 생성)
+    private static final Map<String, UserRoles> BY_ROLE = Arrays.stream(values())
+            .collect(Collectors.toUnmodifiableMap(userRole -> userRole.role, Function.identity()));
+
     // 생성자
     UserRoles(String role) {
         this.role = role;
@@ -18,9 +25,10 @@ public enum UserRoles {
 
     // String을 받아 Enum 값으로 변환하는 정적 메서드
     public static UserRoles fromString(String role) {
-        return Arrays.stream(UserRoles.values())
-                .filter(userRole -> userRole.role.equals(role))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 역할: " + role));
+        UserRoles userRole = role == null ? null : BY_ROLE.get(role);
+        if (userRole == null) {
+            throw new IllegalArgumentException("존재하지 않는 역할: " + role);
+        }
+        return userRole;
     }
 }
\ No newline at end of file
@@ -2,7 +2,11 @@ package com.sparta.delivery.domain.user.repository;
 
 import com.sparta.delivery.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.querydsl.QuerydslPredicateExecutor;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 import java.util.UUID;
@@ -17,4 +21,16 @@ public interface UserRepository extends JpaRepository<User , UUID> , QuerydslPre
 
     // 삭제되지 않은 유저 단일 조회 (username)
     Optional<User> findByUsernameAndDeletedAtIsNull(String username);
+
+    // 삭제되지 않은 유저의 id 만 조회 (username)
+    @Query("select u.userId from User u where u.username = :username and u.deletedAt is null")
+    Optional<UUID> findUserIdByUsername(@Param("username") String username);
+
+    // 비밀번호 해시 교체 (그 사이에 비밀번호가 변경되었으면 교체하지 않음, 로그인은 트랜잭션 없이 실행되므로 자체 트랜잭션)
+    @Transactional
+    @Modifying
+    @Query("update User u set u.password = :newPassword where u.userId = :userId and u.password = :oldPassword")
+    int updatePasswordHash(@Param("userId") UUID userId,
+                           @Param("oldPassword") String oldPassword,
+                           @Param("newPassword") String newPassword);
 }
@@ -0,0 +1,54 @@
+package com.sparta.delivery.domain.user.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 단계별 소요 시간 지표 (user.login.duration, histogram 포함)
+ *
+ * - lookup : 사용자 조회
+ * - password : 비밀번호 검증 (대기 시간 포함)
+ * - token : access / refresh 토큰 생성
+ * - store : refresh 토큰 저장
+ */
+@Component
+public class LoginMetrics {
+
+    private static final String METRIC_NAME = "user.login.duration";
+
+    private final Timer lookupTimer;
+    private final Timer passwordTimer;
+    private final Timer tokenTimer;
+    private final Timer storeTimer;
+
+    public LoginMetrics(MeterRegistry meterRegistry) {
+        this.lookupTimer = stageTimer(meterRegistry, "lookup");
+        this.passwordTimer = stageTimer(meterRegistry, "password");
+        this.tokenTimer = stageTimer(meterRegistry, "token");
+        this.storeTimer = stageTimer(meterRegistry, "store");
+    }
+
+    public Timer lookup() {
+        return lookupTimer;
+    }
+
+    public Timer password() {
+        return passwordTimer;
+    }
+
+    public Timer token() {
+        return tokenTimer;
+    }
+
+    public Timer store() {
+        return storeTimer;
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder(METRIC_NAME)
+                .tag("stage", stage)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
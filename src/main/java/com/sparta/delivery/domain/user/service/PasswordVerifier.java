@@ -0,0 +1,110 @@
+package com.sparta.delivery.domain.user.service;
+
+import com.sparta.delivery.config.global.exception.custom.LoginThrottledException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 비밀번호 검증(BCrypt)을 전용 스레드 풀에서 수행하는 컴포넌트
+ *
+ * 검증에 성공한 해시가 예전 형식이거나 설정된 cost 보다 낮으면 같은 작업 안에서 새 해시를 만들어 반환합니다.
+ *
+ * BCrypt 검증은 CPU 를 많이 사용하므로 로그인이 몰리면 요청 스레드 전체가 해시 계산에 묶일 수 있습니다.
+ * 동시에 수행되는 검증 수를 스레드 수로, 대기 중인 검증 수를 큐 크기로 제한하고
+ * 한도를 넘거나 대기 시간이 초과된 요청은 LoginThrottledException 으로 즉시 거절합니다.
+ */
+@Component
+public class PasswordVerifier {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs; // 검증 결과 최대 대기 시간 (밀리초 단위)
+
+    /**
+     * PasswordVerifier 생성자
+     *
+     * @param passwordEncoder 비밀번호 검증에 사용할 PasswordEncoder
+     * @param threads 동시에 검증할 최대 스레드 수 (0 이하이면 CPU 코어 수)
+     * @param queueCapacity 대기할 수 있는 최대 검증 요청 수
+     * @param timeoutMs 검증 결과 최대 대기 시간 (밀리초 단위)
+     */
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            @Value("${spring.login.password-verifier.threads:0}") int threads,
+                            @Value("${spring.login.password-verifier.queue-capacity:200}") int queueCapacity,
+                            @Value("${spring.login.password-verifier.timeout-ms:5000}") long timeoutMs) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeoutMs = timeoutMs;
+
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "password-verifier-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    /**
+     * 입력된 비밀번호와 저장된 해시가 일치하는지 검증하는 메서드
+     *
+     * @param rawPassword 입력된 비밀번호
+     * @param encodedPassword 저장된 비밀번호 해시
+     * @return 검증 결과 (일치 여부, 재해시가 필요한 경우 새 해시)
+     * @throws LoginThrottledException 검증 요청이 한도를 넘었거나 대기 시간이 초과된 경우
+     */
+    public Verification verify(String rawPassword, String encodedPassword) {
+        Future<Verification> result;
+        try {
+            result = executor.submit(() -> {
+                if (!passwordEncoder.matches(rawPassword, encodedPassword)) {
+                    return new Verification(false, null);
+                }
+
+                String upgradedPassword = passwordEncoder.upgradeEncoding(encodedPassword)
+                        ? passwordEncoder.encode(rawPassword)
+                        : null;
+                return new Verification(true, upgradedPassword);
+            });
+        } catch (RejectedExecutionException e) {
+            throw new LoginThrottledException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            throw new LoginThrottledException("로그인 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요.");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            result.cancel(true);
+            throw new LoginThrottledException("로그인 처리가 중단되었습니다.");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 비밀번호 검증 결과
+     *
+     * @param matches 비밀번호 일치 여부
+     * @param upgradedPassword 재해시된 비밀번호 (재해시가 필요 없으면 null)
+     */
+    public record Verification(boolean matches, String upgradedPassword) {
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+}
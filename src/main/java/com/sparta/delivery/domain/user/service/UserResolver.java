@@ -0,0 +1,154 @@
+package com.sparta.delivery.domain.user.service;
+
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * username 으로 현재 사용자를 찾는 컴포넌트
+ *
+ * 여러 서비스가 요청마다 findByUsernameAndDeletedAtIsNull 을 반복 호출하지 않도록 다음 방식으로 조회합니다.
+ * 1. findUser : 요청(request) 단위로 한 번만 조회하고 같은 요청 안에서는 조회한 엔티티를 재사용
+ *    - OSIV 로 요청 동안 같은 영속성 컨텍스트를 사용하므로 재사용한 엔티티도 영속 상태
+ *    - 요청 밖(스케줄러, 테스트 등)에서는 매번 조회
+ * 2. findUserId : username -> userId 를 짧은 TTL 로 캐시 (회원 정보 수정, 삭제 시 evict)
+ * 3. getReference : 캐시된 userId 로 조회 쿼리 없이 JPA 참조(프록시)를 반환 (연관관계 설정용)
+ *
+ * userId 캐시는 인스턴스마다 따로 있고 evict 도 호출한 인스턴스의 캐시만 제거합니다.
+ * 다른 인스턴스에서 회원이 삭제되면 이 인스턴스는 최대 ttlMs 동안 삭제된 사용자의 id 를 계속 반환할 수 있으므로 TTL 을 짧게 유지합니다.
+ */
+@Component
+public class UserResolver {
+
+    private static final String REQUEST_ATTRIBUTE_PREFIX = UserResolver.class.getName() + ".";
+
+    private final UserRepository userRepository;
+
+    private final long ttlMs; // username -> userId 캐시 보관 시간 (밀리초 단위)
+    private final int maxSize; // username -> userId 캐시 최대 개수
+
+    private final Map<String, CachedUserId> userIdCache = new ConcurrentHashMap<>();
+
+    /**
+     * UserResolver 생성자
+     *
+     * @param userRepository 사용자를 조회할 Repository
+     * @param ttlMs username -> userId 캐시 보관 시간 (0 이하이면 캐시 사용 안 함)
+     * @param maxSize username -> userId 캐시 최대 개수
+     */
+    public UserResolver(UserRepository userRepository,
+                        @Value("${spring.user.id-cache.ttl-ms:5000}") long ttlMs,
+                        @Value("${spring.user.id-cache.max-size:10000}") int maxSize) {
+        this.userRepository = userRepository;
+        this.ttlMs = ttlMs;
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 삭제되지 않은 사용자를 조회하는 메서드 (같은 요청 안에서는 한 번만 조회)
+     *
+     * @param username 사용자 이름
+     * @return 사용자 엔티티
+     */
+    public Optional<User> findUser(String username) {
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes == null) {
+            return userRepository.findByUsernameAndDeletedAtIsNull(username);
+        }
+
+        String attributeName = REQUEST_ATTRIBUTE_PREFIX + username;
+        Object cached = requestAttributes.getAttribute(attributeName, RequestAttributes.SCOPE_REQUEST);
+        if (cached instanceof User user) {
+            return Optional.of(user);
+        }
+
+        Optional<User> user = userRepository.findByUsernameAndDeletedAtIsNull(username);
+        user.ifPresent(found -> requestAttributes.setAttribute(attributeName, found, RequestAttributes.SCOPE_REQUEST));
+        return user;
+    }
+
+    /**
+     * 삭제되지 않은 사용자의 id 를 조회하는 메서드 (TTL 캐시)
+     *
+     * 캐시 hit 는 삭제 여부를 다시 확인하지 않으므로, 다른 인스턴스에서 삭제된 사용자는 최대 ttlMs 동안 조회될 수 있습니다.
+     *
+     * @param username 사용자 이름
+     * @return 사용자 id
+     */
+    public Optional<UUID> findUserId(String username) {
+        long now = System.currentTimeMillis();
+
+        CachedUserId cached = userIdCache.get(username);
+        if (cached != null) {
+            if (cached.expiresAt() > now) {
+                return Optional.of(cached.userId());
+            }
+            userIdCache.remove(username, cached);
+        }
+
+        Optional<UUID> userId = userRepository.findUserIdByUsername(username);
+
+        if (userId.isPresent() && ttlMs > 0) {
+            if (userIdCache.size() >= maxSize) {
+                evict(now);
+            }
+            userIdCache.put(username, new CachedUserId(userId.get(), now + ttlMs));
+        }
+
+        return userId;
+    }
+
+    /**
+     * 삭제되지 않은 사용자의 JPA 참조를 반환하는 메서드
+     *
+     * 연관관계 설정처럼 id 만 필요한 경우 사용자 행을 조회하지 않습니다.
+     *
+     * @param username 사용자 이름
+     * @return 사용자 참조 (프록시)
+     */
+    public Optional<User> getReference(String username) {
+        return findUserId(username).map(userRepository::getReferenceById);
+    }
+
+    /**
+     * 캐시된 사용자 정보를 제거하는 메서드 (회원 정보 수정, 권한 변경, 삭제 시 호출)
+     * 현재 인스턴스의 캐시만 제거합니다.
+     *
+     * @param username 사용자 이름
+     */
+    public void evict(String username) {
+        userIdCache.remove(username);
+
+        RequestAttributes requestAttributes = RequestContextHolder.getRequestAttributes();
+        if (requestAttributes != null) {
+            requestAttributes.removeAttribute(REQUEST_ATTRIBUTE_PREFIX + username, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    /**
+     * 만료된 엔트리를 먼저 제거하고, 그래도 최대 크기의 90% 이상이면 임의의 엔트리를 제거하는 메서드
+     * 캐시 전체를 비우면 모든 사용자가 한꺼번에 DB 를 조회하게 되므로 필요한 만큼만 제거합니다.
+     */
+    private void evict(long now) {
+        userIdCache.values().removeIf(cached -> cached.expiresAt() <= now);
+
+        int target = maxSize - Math.max(1, maxSize / 10);
+        Iterator<CachedUserId> iterator = userIdCache.values().iterator();
+        while (userIdCache.size() > target && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+        }
+    }
+
+    private record CachedUserId(UUID userId, long expiresAt) {
+    }
+}
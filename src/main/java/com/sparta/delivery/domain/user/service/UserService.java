@@ -4,14 +4,17 @@ import com.querydsl.core.BooleanBuilder;
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
 import com.sparta.delivery.config.global.exception.custom.InvalidRefreshTokenException;
+import com.sparta.delivery.config.global.exception.custom.LoginThrottledException;
 import com.sparta.delivery.config.global.exception.custom.UserNotFoundException;
 import com.sparta.delivery.domain.token.service.JwtServiceImpl;
 import com.sparta.delivery.domain.token.service.RefreshTokenServiceImpl;
+import com.sparta.delivery.domain.token.service.VerifiedTokenCache;
 import com.sparta.delivery.domain.user.dto.*;
 import com.sparta.delivery.domain.user.entity.QUser;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -25,13 +28,16 @@ import java.util.UUID;
 
 @Service
 @RequiredArgsConstructor
-@Transactional
 public class UserService {
 
     private final UserRepository userRepository;
     private final PasswordEncoder  passwordEncoder;
     private final JwtServiceImpl jwtService;
     private final RefreshTokenServiceImpl refreshTokenService;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final PasswordVerifier passwordVerifier;
+    private final LoginMetrics loginMetrics;
+    private final UserResolver userResolver;
 
 
     /**
@@ -47,6 +53,7 @@ public class UserService {
      * @return 등록된 회원 정보를 담은 UserResDto 객체
      * @throws IllegalArgumentException 이미 존재하는 username인 경우 예외 발생
      */
+    @Transactional
     public UserResDto signup(SignupReqDto signupReqDto) {
 
         if (userRepository.existsByUsername(signupReqDto.getUsername())){
@@ -70,28 +77,44 @@ public class UserService {
      * 로그인 요청(LoginRequestDto)을 받아 다음 절차를 수행합니다:
      * 1. 입력된 username을 기준으로 논리적 삭제가 되지 않은 유저를 조회
      *    - 해당 유저가 존재하지 않으면 예외 발생
-     * 2. 조회된 유저의 비밀번호와 입력된 비밀번호를 비교
+     * 2. 조회된 유저의 비밀번호와 입력된 비밀번호를 비교 (PasswordVerifier 전용 스레드 풀에서 수행)
      *    - 비밀번호가 일치하지 않으면 예외 발생
+     *    - 저장된 해시가 예전 형식이거나 설정된 cost 보다 낮으면 새 해시로 교체
      * 3. 유저 정보가 유효하면 JWT 토큰(Access Token, Refresh Token)을 생성
-     * 4. 생성된 Refresh Token을 저장하고, 두 개의 토큰을 반환
+     * 4. 생성된 Refresh Token을 한 번의 upsert 로 저장하고, 두 개의 토큰을 반환
+     *
+     * 각 단계의 소요 시간은 LoginMetrics(user.login.duration) 에 기록합니다.
+     * 비밀번호 검증을 기다리는 동안 DB 커넥션을 잡고 있지 않도록 트랜잭션 없이 실행하며, 조회와 저장은 각 Repository 호출의 짧은 트랜잭션으로 처리합니다.
+     * (트랜잭션 범위의 EntityManager 가 커넥션을 유지하므로 NOT_SUPPORTED 도 사용하지 않으며, OSIV 에서도 제외 : JpaConfig)
      *
      * @param loginRequestDto 로그인 요청 정보를 담고 있는 DTO (username, password)
      * @return 발급된 JWT 액세스 토큰 및 리프레시 토큰을 담은 AuthTokenData 객체
      * @throws IllegalArgumentException 존재하지않는 username이거나, 비밀번호가 일치하지 않을 경우 예외 발생
+     * @throws LoginThrottledException 비밀번호 검증 요청이 한도를 넘은 경우 예외 발생
      */
     public AuthTokenData authenticateUser(LoginRequestDto loginRequestDto) {
 
-        User user = userRepository.findByUsernameAndDeletedAtIsNull(loginRequestDto.getUsername())
-                .orElseThrow(()-> new UserNotFoundException("Invalid username : " + loginRequestDto.getUsername()));
+        User user = loginMetrics.lookup().record(() ->
+                userRepository.findByUsernameAndDeletedAtIsNull(loginRequestDto.getUsername())
+                        .orElseThrow(()-> new UserNotFoundException("Invalid username : " + loginRequestDto.getUsername())));
+
+        PasswordVerifier.Verification verification = loginMetrics.password().record(() ->
+                passwordVerifier.verify(loginRequestDto.getPassword(), user.getPassword()));
 
-        if (!passwordEncoder.matches(loginRequestDto.getPassword(),user.getPassword() )){
+        if (!verification.matches()){
             throw new IllegalArgumentException("Invalid password : " + loginRequestDto.getPassword());
         }
 
+        if (verification.upgradedPassword() != null){
+            userRepository.updatePasswordHash(user.getUserId(), user.getPassword(), verification.upgradedPassword());
+        }
+
+        Timer.Sample tokenSample = Timer.start();
         String accessToken = jwtService.createAccessToken(user);
         String refreshToken = jwtService.createRefreshToken(user);
+        tokenSample.stop(loginMetrics.token());
 
-        refreshTokenService.addRefreshTokenEntity(user,refreshToken);
+        loginMetrics.store().record(() -> refreshTokenService.addRefreshTokenEntity(user,refreshToken));
 
         return new AuthTokenData(accessToken,refreshToken);
     }
@@ -108,10 +131,12 @@ public class UserService {
      *    - 존재하지 않을 시 예외 발생
      * 4. 해당 refreshToken 을 DB에서 제거
      * 5. refresh 쿠키 제거
+     * 6. 검증된 토큰 캐시에서 해당 유저의 access token 제거
      *
      * @param refreshToken 쿠키에서 념겨받은 refreshToken
      * @throws InvalidRefreshTokenException refreshToken 이 아니거나 DB에 존재하지 않는 토큰인 경우 예외 발생
      */
+    @Transactional
     public void removeRefreshToken(String refreshToken) {
 
         if (jwtService.isTokenExpired(refreshToken)){
@@ -123,6 +148,8 @@ public class UserService {
         }
 
         refreshTokenService.removeRefreshToken(refreshToken);
+
+        verifiedTokenCache.invalidateUser(jwtService.getUsername(refreshToken));
     }
 
     /**
@@ -202,6 +229,7 @@ public class UserService {
      * @throws UserNotFoundException 해당 ID의 사용자가 존재하지 않거나 삭제된 경우 발생
      * @throws ForbiddenException 본인이 아니거나 관리자 권한이 없을 경우 발생
      */
+    @Transactional
     public UserResDto updateUser(UUID id, PrincipalDetails principalDetails, UserUpdateReqDto userUpdateReqDto) {
         User user = userRepository.findByUserIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new UserNotFoundException("User Not Found By Id : " + id));
@@ -220,6 +248,8 @@ public class UserService {
                 .nickname(userUpdateReqDto.getNickname())
                 .build();
 
+        userResolver.evict(user.getUsername());
+
         return userRepository.save(updateUser).toResponseDto();
     }
 
@@ -240,6 +270,7 @@ public class UserService {
      * @return 수정된 사용자 정보를 포함하는 UserResDto 객체
      * @throws ForbiddenException 관리자 권한이 없을 경우 발생
      */
+    @Transactional
     public UserResDto updateRole(UUID id, PrincipalDetails principalDetails, UserRoleUpdateReqDto userRoleUpdateReqDto) {
         if (!principalDetails.getRole().name().equals("ROLE_MASTER")){
             throw new ForbiddenException("Access denied.");
@@ -252,6 +283,10 @@ public class UserService {
                 .role(userRoleUpdateReqDto.getRole())
                 .build();
 
+        // 권한이 변경된 유저의 검증된 토큰 캐시 제거
+        verifiedTokenCache.invalidateUser(user.getUsername());
+        userResolver.evict(user.getUsername());
+
         return userRepository.save(updateUser).toResponseDto();
     }
 
@@ -270,6 +305,7 @@ public class UserService {
      * @throws UserNotFoundException 해당 ID의 사용자가 존재하지 않거나 삭제된 경우 발생
      * @throws ForbiddenException 관리자 권한이 없을 경우 발생
      */
+    @Transactional
     public void deleteUser(UUID id, PrincipalDetails principalDetails) {
         User user = userRepository.findByUserIdAndDeletedAtIsNull(id)
                 .orElseThrow(() -> new UserNotFoundException("User Not Found By Id : " + id));
@@ -284,6 +320,9 @@ public class UserService {
         user.setDeletedBy(principalDetails.getUsername());
 
         userRepository.save(user);
+
+        verifiedTokenCache.invalidateUser(user.getUsername());
+        userResolver.evict(user.getUsername());
     }
 
     /**
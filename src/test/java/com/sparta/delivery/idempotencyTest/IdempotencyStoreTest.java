@@ -0,0 +1,158 @@
+package com.sparta.delivery.idempotencyTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.config.global.exception.custom.IdempotencyKeyReusedException;
+import com.sparta.delivery.config.global.idempotency.IdempotencyKeyRepository;
+import com.sparta.delivery.config.global.idempotency.IdempotencyStore;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// key 행의 커밋, 롤백과 인스턴스 간 공유를 검증하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class IdempotencyStoreTest {
+
+    @Autowired
+    private IdempotencyStore idempotencyStore;
+
+    @Autowired
+    private IdempotencyKeyRepository idempotencyKeyRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private final AtomicInteger executions = new AtomicInteger();
+
+    private final Map<String, Object> requestBody = Map.of("storeId", "store-1", "quantity", 1);
+
+    @AfterEach
+    void tearDown() {
+        idempotencyKeyRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("같은 key 로 다시 요청하면 실행하지 않고 처음 응답을 반환, 사용자나 API 가 다르면 별도 실행")
+    void testReplayStoredResponse() {
+        ResponseEntity<?> first = idempotencyStore.execute("createOrder", "customer", "key-1", requestBody, this::createOrder);
+        ResponseEntity<?> retried = idempotencyStore.execute("createOrder", "customer", "key-1", requestBody, this::createOrder);
+
+        assertEquals(1, executions.get());
+        assertEquals(first.getStatusCode(), retried.getStatusCode());
+        assertEquals(first.getBody(), retried.getBody());
+        assertNull(first.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals("true", retried.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+
+        idempotencyStore.execute("createOrder", "otherCustomer", "key-1", requestBody, this::createOrder);
+        idempotencyStore.execute("requestPayment", "customer", "key-1", requestBody, this::createOrder);
+        idempotencyStore.execute("createOrder", "customer", null, requestBody, this::createOrder);
+
+        assertEquals(4, executions.get());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 처리 중인 같은 요청은 다시 실행하지 않고 처음 요청이 커밋될 때까지 기다려 같은 응답을 반환")
+    void testConcurrentDuplicateOnAnotherInstanceWaitsForFirst() throws Exception {
+        IdempotencyStore anotherInstance = new IdempotencyStore(idempotencyKeyRepository, transactionManager, objectMapper,
+                new SimpleMeterRegistry(), 60000);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<ResponseEntity<?>> first = executor.submit(() ->
+                idempotencyStore.execute("requestPayment", "customer", "key-1", requestBody, () -> {
+                    started.countDown();
+                    await(release);
+                    return createOrder();
+                }));
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+
+        Future<ResponseEntity<?>> duplicate = executor.submit(() ->
+                anotherInstance.execute("requestPayment", "customer", "key-1", requestBody, this::createOrder));
+
+        // 처음 요청이 커밋되기 전에는 중복 요청도 끝나지 않음
+        assertThrows(TimeoutException.class, () -> duplicate.get(200, TimeUnit.MILLISECONDS));
+        release.countDown();
+
+        ResponseEntity<?> replayed = duplicate.get(5, TimeUnit.SECONDS);
+        assertEquals(first.get(5, TimeUnit.SECONDS).getBody(), replayed.getBody());
+        assertEquals("true", replayed.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals(1, executions.get());
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 key 도 함께 롤백되므로 재시도하면 다시 실행")
+    void testFailedRequestIsNotStored() {
+        assertThrows(IllegalStateException.class, () ->
+                idempotencyStore.execute("createOrder", "customer", "key-1", requestBody, () -> {
+                    executions.incrementAndGet();
+                    throw new IllegalStateException("일시적인 오류");
+                }));
+        assertEquals(0, idempotencyKeyRepository.count());
+
+        ResponseEntity<?> retried = idempotencyStore.execute("createOrder", "customer", "key-1", requestBody, this::createOrder);
+
+        assertEquals(2, executions.get());
+        assertEquals(HttpStatus.OK, retried.getStatusCode());
+        assertEquals(1, idempotencyKeyRepository.count());
+    }
+
+    @Test
+    @DisplayName("같은 key 로 본문이 다른 요청을 보내면 실행하지 않고 거절")
+    void testReusedKeyWithDifferentBodyRejected() {
+        idempotencyStore.execute("createOrder", "customer", "key-1", requestBody, this::createOrder);
+
+        Map<String, Object> otherBody = Map.of("storeId", "store-1", "quantity", 2);
+        assertThrows(IdempotencyKeyReusedException.class, () ->
+                idempotencyStore.execute("createOrder", "customer", "key-1", otherBody, this::createOrder));
+
+        assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("보관 기간이 지난 key 는 다시 실행되고, 주기적으로 제거됨")
+    void testExpiredKeyExecutedAgainAndPurged() {
+        IdempotencyStore expiringStore = new IdempotencyStore(idempotencyKeyRepository, transactionManager, objectMapper,
+                new SimpleMeterRegistry(), 0);
+
+        expiringStore.execute("createOrder", "customer", "key-1", requestBody, this::createOrder);
+        ResponseEntity<?> retried = expiringStore.execute("createOrder", "customer", "key-1", requestBody, this::createOrder);
+
+        assertEquals(2, executions.get());
+        assertNull(retried.getHeaders().getFirst(IdempotencyStore.REPLAYED_HEADER));
+        assertEquals(1, idempotencyKeyRepository.count());
+
+        assertEquals(1, expiringStore.purgeExpired());
+        assertEquals(0, idempotencyKeyRepository.count());
+    }
+
+    private ResponseEntity<?> createOrder() {
+        return ResponseEntity.ok("order-" + executions.incrementAndGet());
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.order.dto.OrderCursorPageResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderListResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.review.entity.Review;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class OrderCursorPaginationTest {
+
+    private static final int ORDER_COUNT = 25;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Stores store;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .username("cursorOwner")
+                .email("cursorOwner@example.com")
+                .password("password")
+                .nickname("cursorOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        User customer = userRepository.save(User.builder()
+                .username("cursorCustomer")
+                .email("cursorCustomer@example.com")
+                .password("password")
+                .nickname("cursorCustomer")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("cursorStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        // 두 주문씩 같은 주문 시간을 갖도록 하여 주문 id 로 순서가 정해지는 경우도 포함
+        LocalDateTime baseTime = LocalDateTime.of(2025, 1, 1, 12, 0);
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .orderTime(baseTime.plusMinutes(i / 2))
+                    .orderType(OrderType.PACKAGING)
+                    .orderStatus(OrderStatus.ORDER_COMPLETE)
+                    .stores(store)
+                    .user(customer)
+                    .build());
+
+            if (i % 2 == 0) {
+                reviewRepository.save(Review.builder()
+                        .comment("good")
+                        .star(5)
+                        .order(order)
+                        .user(customer)
+                        .stores(store)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    @DisplayName("가게 주문을 커서로 끝까지 조회하면 모든 주문이 최신순으로 한 번씩 조회됨")
+    void testStoreOrderCursorWalksAllOrders() {
+        List<OrderListResponseDto> orders = new ArrayList<>();
+        List<Boolean> hasNextList = new ArrayList<>();
+
+        String cursor = null;
+        do {
+            OrderCursorPageResponseDto<OrderListResponseDto> page = orderService.getStoreOrderCursor(store.getStoreId(), cursor, 10, "cursorOwner");
+            orders.addAll(page.getContent());
+            hasNextList.add(page.isHasNext());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(List.of(true, true, false), hasNextList);
+        assertEquals(ORDER_COUNT, orders.size());
+        assertEquals(ORDER_COUNT, orders.stream().map(OrderListResponseDto::getOrderId).distinct().count());
+
+        for (int i = 1; i < orders.size(); i++) {
+            assertFalse(orders.get(i).getOrderTime().isAfter(orders.get(i - 1).getOrderTime()));
+        }
+    }
+
+    @Test
+    @DisplayName("유저 주문을 커서로 끝까지 조회하면 모든 주문과 리뷰가 한 번씩 조회됨")
+    void testUserOrderCursorWalksAllOrders() {
+        Set<UUID> orderIds = new HashSet<>();
+        long reviewCount = 0;
+
+        String cursor = null;
+        do {
+            OrderCursorPageResponseDto<OrderListResponseWithReviewDto> page = orderService.getUserOrderCursor("cursorCustomer", cursor, 10,
+                    Collections.emptyList(), Collections.emptyList());
+            for (OrderListResponseWithReviewDto order : page.getContent()) {
+                assertTrue(orderIds.add(order.getOrderId()));
+                if (order.getReview() != null)
+                    reviewCount++;
+            }
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertEquals(ORDER_COUNT, orderIds.size());
+        assertEquals(13, reviewCount);
+    }
+
+    @Test
+    @DisplayName("커서 페이지 조회는 count 쿼리를 실행하지 않음 (사용자, 가게, 주문 3회)")
+    void testStoreOrderCursorSkipsCount() {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        OrderCursorPageResponseDto<OrderListResponseDto> page = orderService.getStoreOrderCursor(store.getStoreId(), null, 10, "cursorOwner");
+
+        assertTrue(page.isHasNext());
+        assertEquals(3, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("잘못된 커서로 조회하면 예외 발생")
+    void testInvalidCursor() {
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+                orderService.getStoreOrderCursor(store.getStoreId(), "not-a-cursor", 10, "cursorOwner"));
+        assertEquals("잘못된 커서입니다.", exception.getMessage());
+    }
+}
@@ -0,0 +1,188 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.config.global.exception.custom.StoreNotFoundException;
+import com.sparta.delivery.domain.order.dto.OrderListResponseWithReviewDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.review.entity.Review;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class OrderQueryCountTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private List<UUID> storeIdList = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        User owner = userRepository.save(User.builder()
+                .username("countOwner")
+                .email("countOwner@example.com")
+                .password("password")
+                .nickname("countOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        User customer = userRepository.save(User.builder()
+                .username("countCustomer")
+                .email("countCustomer@example.com")
+                .password("password")
+                .nickname("countCustomer")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        Stores store = storeRepository.save(Stores.builder()
+                .name("countStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+        storeIdList.add(store.getStoreId());
+
+        // 주문이 없는 가게 (가게 조건 개수만 늘리기 위함)
+        for (int i = 0; i < 5; i++) {
+            storeIdList.add(storeRepository.save(Stores.builder()
+                    .name("emptyStore" + i)
+                    .address("Gwanghwamun")
+                    .status(true)
+                    .user(owner)
+                    .build()).getStoreId());
+        }
+
+        for (int i = 0; i < 10; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .orderTime(LocalDateTime.now())
+                    .orderType(OrderType.PACKAGING)
+                    .orderStatus(OrderStatus.ORDER_COMPLETE)
+                    .stores(store)
+                    .user(customer)
+                    .build());
+
+            // 절반의 주문에만 리뷰 작성
+            if (i % 2 == 0) {
+                reviewRepository.save(Review.builder()
+                        .comment("good")
+                        .star(5)
+                        .order(order)
+                        .user(customer)
+                        .stores(store)
+                        .build());
+            }
+        }
+
+        entityManager.flush();
+    }
+
+    @Test
+    @DisplayName("유저 주문 목록 조회의 쿼리 수는 페이지 크기와 관계없이 일정함")
+    void testUserOrderListStatementCountIsConstant() {
+        countStatements(1); // 요청 단위로 캐시되는 사용자 조회를 미리 수행
+
+        long smallPageStatements = countStatements(2);
+        long largePageStatements = countStatements(10);
+
+        assertEquals(smallPageStatements, largePageStatements);
+    }
+
+    @Test
+    @DisplayName("유저 주문 목록 조회 시 리뷰가 있는 주문에만 리뷰가 포함됨")
+    void testUserOrderListIncludesReviews() {
+        entityManager.clear();
+
+        Page<OrderListResponseWithReviewDto> page = orderService.getUserOrderList("countCustomer",
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")), Collections.emptyList(), Collections.emptyList());
+
+        assertEquals(10, page.getContent().size());
+        assertEquals(5, page.getContent().stream().filter(order -> order.getReview() != null).count());
+    }
+
+    @Test
+    @DisplayName("가게 조건 개수가 늘어나도 유저 주문 목록 조회의 쿼리 수는 일정함")
+    void testStoreFilterStatementCountIsConstant() {
+        countStatements(1); // 요청 단위로 캐시되는 사용자 조회를 미리 수행
+
+        long singleStoreStatements = countStatements(10, storeIdList.subList(0, 1));
+        long manyStoreStatements = countStatements(10, storeIdList);
+
+        assertEquals(singleStoreStatements, manyStoreStatements);
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 가게가 조건에 포함되면 예외 발생")
+    void testStoreFilterFailsWhenStoreNotFound() {
+        List<UUID> storeIds = new ArrayList<>(storeIdList);
+        storeIds.add(UUID.randomUUID());
+
+        StoreNotFoundException exception = assertThrows(StoreNotFoundException.class, () ->
+                orderService.getUserOrderList("countCustomer",
+                        PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")), storeIds, Collections.emptyList()));
+        assertEquals("존재하지 않는 가게입니다.", exception.getMessage());
+    }
+
+    private long countStatements(int pageSize) {
+        return countStatements(pageSize, Collections.emptyList());
+    }
+
+    private long countStatements(int pageSize, List<UUID> storeIds) {
+        entityManager.clear();
+        statistics.clear();
+
+        Page<OrderListResponseWithReviewDto> page = orderService.getUserOrderList("countCustomer",
+                PageRequest.of(0, pageSize, Sort.by(Sort.Direction.ASC, "createdAt")), storeIds, Collections.emptyList());
+        assertEquals(pageSize, page.getContent().size());
+
+        return statistics.getPrepareStatementCount();
+    }
+}
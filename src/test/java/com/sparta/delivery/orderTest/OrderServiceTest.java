@@ -241,17 +241,17 @@ public class OrderServiceTest {
     @Test
     @DisplayName("주문 등록 성공")
     void testCreateOrderSuccess() {
-        List<UUID> productList = new ArrayList<>();
-        productList.add(product1.getProductId());
-        productList.add(product2.getProductId());
-
-        OrderRequestDto orderRequestDto = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order"
-                );
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
+        orderProducts.add(new OrderProductRequestDto(product1.getProductId(), 1));
+        orderProducts.add(new OrderProductRequestDto(product2.getProductId(), 1));
+
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
 
         PrincipalDetails principalDetails = mock(PrincipalDetails.class);
         when(principalDetails.getUsername()).thenReturn("customer");
@@ -264,18 +264,41 @@ public class OrderServiceTest {
         assertEquals(OrderType.DELIVERY, order.getOrderType());
     }
 
+    @Test
+    @DisplayName("주문 등록 성공 - 같은 상품 여러 개는 수량을 가진 한 행으로 저장")
+    void testCreateOrderWithQuantitySuccess() {
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
+        orderProducts.add(new OrderProductRequestDto(product1.getProductId(), 3));
+
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
+
+        Order order = orderService.createOrder(orderRequestDto, "customer");
+        OrderResponseDto response = order.toResponseDto();
+
+        assertEquals(1, order.getOrderProductList().size());
+        assertEquals(3, response.getOrderProducts().get(0).getQuantity());
+        assertEquals(11000, response.getOrderProducts().get(0).getUnitPrice());
+        assertEquals(33000, response.getTotalPrice());
+    }
+
     @Test
     @DisplayName("주문 등록 실패 - 상품을 안 담았을 때")
     void testCreateOrderFailsWhenProductIsZero() {
-        List<UUID> productList = new ArrayList<>();
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
 
-        OrderRequestDto orderRequestDto = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order"
-        );
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
 
         PrincipalDetails principalDetails = mock(PrincipalDetails.class);
         when(principalDetails.getUsername()).thenReturn("customer");
@@ -290,16 +313,16 @@ public class OrderServiceTest {
     @Test
     @DisplayName("주문 등록 실패 - 상품이 해당 가게의 것이 아닐 때")
     void testCreateOrderFailsWhenProductIsNotInStore() {
-        List<UUID> productList = new ArrayList<>();
-        productList.add(product4.getProductId());
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
+        orderProducts.add(new OrderProductRequestDto(product4.getProductId(), 1));
 
-        OrderRequestDto orderRequestDto = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order"
-        );
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
 
         PrincipalDetails principalDetails = mock(PrincipalDetails.class);
         when(principalDetails.getUsername()).thenReturn("customer");
@@ -314,16 +337,16 @@ public class OrderServiceTest {
     @Test
     @DisplayName("주문 등록 실패 - 상품이 품절일 때")
     void testCreateOrderFailsWhenProductSoldOut() {
-        List<UUID> productList = new ArrayList<>();
-        productList.add(product3.getProductId());
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
+        orderProducts.add(new OrderProductRequestDto(product3.getProductId(), 1));
 
-        OrderRequestDto orderRequestDto = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order"
-        );
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
 
         PrincipalDetails principalDetails = mock(PrincipalDetails.class);
         when(principalDetails.getUsername()).thenReturn("customer");
@@ -472,29 +495,29 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("customer");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
-        List<UUID> productList = new ArrayList<>();
-        productList.add(product1.getProductId());
-        productList.add(product2.getProductId());
-
-        OrderRequestDto orderRequestDto1 = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order"
-        );
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
+        orderProducts.add(new OrderProductRequestDto(product1.getProductId(), 1));
+        orderProducts.add(new OrderProductRequestDto(product2.getProductId(), 1));
+
+        OrderRequestDto orderRequestDto1 = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
         Order firstOrder = orderService.createOrder(orderRequestDto1, principalDetails.getUsername());
 
-        productList.clear();
-        productList.add(product1.getProductId());
+        orderProducts.clear();
+        orderProducts.add(new OrderProductRequestDto(product1.getProductId(), 1));
 
-        OrderRequestDto orderRequestDto2 = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order update"
-        );
+        OrderRequestDto orderRequestDto2 = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order update")
+                .build();
         OrderResponseDto resultDto = orderService.updateOrder(orderRequestDto2, firstOrder.getOrderId(), principalDetails.getUsername());
 
         assertNotNull(resultDto);
@@ -509,31 +532,31 @@ public class OrderServiceTest {
         when(principalDetails.getUsername()).thenReturn("customer");
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
 
-        List<UUID> productList = new ArrayList<>();
-        productList.add(product1.getProductId());
-        productList.add(product2.getProductId());
-
-        OrderRequestDto orderRequestDto1 = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order"
-        );
+        List<OrderProductRequestDto> orderProducts = new ArrayList<>();
+        orderProducts.add(new OrderProductRequestDto(product1.getProductId(), 1));
+        orderProducts.add(new OrderProductRequestDto(product2.getProductId(), 1));
+
+        OrderRequestDto orderRequestDto1 = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order")
+                .build();
         Order firstOrder = orderService.createOrder(orderRequestDto1, principalDetails.getUsername());
         firstOrder.setOrderStatus(OrderStatus.ORDER_COMPLETE);
         orderRepository.save(firstOrder);
 
-        productList.clear();
-        productList.add(product1.getProductId());
+        orderProducts.clear();
+        orderProducts.add(new OrderProductRequestDto(product1.getProductId(), 1));
 
-        OrderRequestDto orderRequestDto2 = new OrderRequestDto(
-                deliveryAddress.getDeliveryAddressId(),
-                store1.getStoreId(),
-                productList,
-                OrderType.DELIVERY,
-                "test order update"
-        );
+        OrderRequestDto orderRequestDto2 = OrderRequestDto.builder()
+                .deliveryAddressId(deliveryAddress.getDeliveryAddressId())
+                .storeId(store1.getStoreId())
+                .orderProducts(orderProducts)
+                .orderType(OrderType.DELIVERY)
+                .requirements("test order update")
+                .build();
         OrderModificationNotAllowedException exception = assertThrows(OrderModificationNotAllowedException.class, ()-> {
             orderService.updateOrder(orderRequestDto2, firstOrder.getOrderId(), principalDetails.getUsername());
         });
@@ -548,7 +571,7 @@ public class OrderServiceTest {
         when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_OWNER);
 
         OrderStatusRequestDto orderStatusRequestDto = new OrderStatusRequestDto(OrderStatus.ORDER_COMPLETE);
-        OrderResponseDto resultDto = orderService.updateOrderStatus(order.getOrderId(), principalDetails.getUsername(), orderStatusRequestDto);
+        OrderStatusResponseDto resultDto = orderService.updateOrderStatus(order.getOrderId(), principalDetails.getUsername(), orderStatusRequestDto);
 
         assertNotNull(resultDto);
         assertEquals(OrderStatus.ORDER_COMPLETE, resultDto.getOrderStatus());
@@ -569,6 +592,47 @@ public class OrderServiceTest {
         assertEquals("해당 가게의 주인이 아니므로 주문 상태를 수정할 수 없습니다.", exception.getMessage());
     }
 
+    @Test
+    @DisplayName("가게가 주문을 취소하면 주문이 삭제 처리되고 재고가 반환됨")
+    void testUpdateOrderStatusCancelReleasesStock() {
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .storeId(store1.getStoreId())
+                .orderProducts(List.of(new OrderProductRequestDto(product1.getProductId(), 2)))
+                .orderType(OrderType.PACKAGING)
+                .requirements("test order")
+                .build();
+        Order createdOrder = orderService.createOrder(orderRequestDto, "customer");
+        orderRepository.compareAndSetOrderStatus(createdOrder.getOrderId(), OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE);
+        assertEquals(18, productRepository.findById(product1.getProductId()).orElseThrow().getQuantity());
+
+        OrderStatusResponseDto resultDto = orderService.updateOrderStatus(createdOrder.getOrderId(), "owner",
+                new OrderStatusRequestDto(OrderStatus.ORDER_CANCEL));
+
+        assertEquals(OrderStatus.ORDER_CANCEL, resultDto.getOrderStatus());
+        assertEquals(20, productRepository.findById(product1.getProductId()).orElseThrow().getQuantity());
+        Order canceledOrder = orderRepository.findById(createdOrder.getOrderId()).orElseThrow();
+        assertNotNull(canceledOrder.getDeletedAt());
+        assertEquals("owner", canceledOrder.getDeletedBy());
+    }
+
+    @Test
+    @DisplayName("주문 상태 수정 실패 - 결제 완료는 결제로만 변경")
+    void testUpdateOrderStatusFailWhenPaymentComplete() {
+        OrderRequestDto orderRequestDto = OrderRequestDto.builder()
+                .storeId(store1.getStoreId())
+                .orderProducts(List.of(new OrderProductRequestDto(product1.getProductId(), 1)))
+                .orderType(OrderType.PACKAGING)
+                .requirements("test order")
+                .build();
+        Order createdOrder = orderService.createOrder(orderRequestDto, "customer");
+
+        OrderModificationNotAllowedException exception = assertThrows(OrderModificationNotAllowedException.class, ()-> {
+            orderService.updateOrderStatus(createdOrder.getOrderId(), "owner", new OrderStatusRequestDto(OrderStatus.PAYMENT_COMPLETE));
+        });
+        assertEquals("주문 상태를 PAYMENT_COMPLETE (으)로 직접 변경할 수 없습니다.", exception.getMessage());
+        assertEquals(OrderStatus.PAYMENT_WAIT, orderRepository.findById(createdOrder.getOrderId()).orElseThrow().getOrderStatus());
+    }
+
     @Test
     @DisplayName("주문 삭제 성공")
     void testDeleteOrderSuccess() {
@@ -581,20 +645,35 @@ public class OrderServiceTest {
         assertEquals(principalDetails.getUsername(), resultOrder.getDeletedBy());
     }
 
-//    @Test
-//    @DisplayName("주문 삭제 실패 - 주문 시간으로부터 5분 이상일 때")
-//    @org.junit.jupiter.api.Order(17)
-//    void testDeleteOrderFailWhenOrderTimeError() {
-//        PrincipalDetails principalDetails = mock(PrincipalDetails.class);
-//        when(principalDetails.getUsername()).thenReturn("customer");
-//        when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
-//
-//        OrderModificationNotAllowedException exception = assertThrows(OrderModificationNotAllowedException.class, ()-> {
-//            orderService.deleteOrder(deleteOrder.getOrderId(), principalDetails.getUsername());
-//        });
-//        assertEquals("주문 취소 가능 시간이 지났습니다.", exception.getMessage());
-//
-//
-//    }
+    @Test
+    @DisplayName("주문 삭제 실패 - 주문 시간으로부터 5분 이상일 때")
+    void testDeleteOrderFailWhenOrderTimeError() {
+        PrincipalDetails principalDetails = mock(PrincipalDetails.class);
+        when(principalDetails.getUsername()).thenReturn("customer");
+        when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+        deleteOrder.setOrderTime(LocalDateTime.now().minusMinutes(10));
+
+        OrderModificationNotAllowedException exception = assertThrows(OrderModificationNotAllowedException.class, ()-> {
+            orderService.deleteOrder(deleteOrder.getOrderId(), principalDetails.getUsername());
+        });
+        assertEquals("주문 취소 가능 시간이 지났습니다.", exception.getMessage());
+        assertEquals(OrderStatus.ORDER_IN, orderRepository.findById(deleteOrder.getOrderId()).orElseThrow().getOrderStatus());
+    }
+
+    @Test
+    @DisplayName("주문 삭제 실패 - 이미 완료된 주문")
+    void testDeleteOrderFailWhenOrderCompleted() {
+        PrincipalDetails principalDetails = mock(PrincipalDetails.class);
+        when(principalDetails.getUsername()).thenReturn("customer");
+        when(principalDetails.getRole()).thenReturn(UserRoles.ROLE_CUSTOMER);
+
+        deleteOrder.setOrderStatus(OrderStatus.ORDER_COMPLETE);
+
+        OrderModificationNotAllowedException exception = assertThrows(OrderModificationNotAllowedException.class, ()-> {
+            orderService.deleteOrder(deleteOrder.getOrderId(), principalDetails.getUsername());
+        });
+        assertEquals("취소할 수 없는 주문 상태입니다.", exception.getMessage());
+    }
 
 }
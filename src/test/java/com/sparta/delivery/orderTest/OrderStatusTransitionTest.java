@@ -0,0 +1,164 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.config.global.exception.custom.OrderModificationNotAllowedException;
+import com.sparta.delivery.config.global.exception.custom.OrderStatusConflictException;
+import com.sparta.delivery.config.global.exception.custom.UserOrderNotFoundException;
+import com.sparta.delivery.domain.order.dto.OrderStatusResponseDto;
+import com.sparta.delivery.domain.order.dto.OrderStatusRequestDto;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 동시 상태 변경을 커밋된 데이터로 검증하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class OrderStatusTransitionTest {
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private Stores store;
+    private Order order;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("transitionOwner")
+                .email("transition@example.com")
+                .password("password")
+                .nickname("transitionOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("transitionStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        order = orderRepository.save(Order.builder()
+                .orderTime(LocalDateTime.now())
+                .orderType(OrderType.PACKAGING)
+                .orderStatus(OrderStatus.PAYMENT_WAIT)
+                .stores(store)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderOutboxRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("전이표에 있는 상태로만 변경되고, 결제 완료는 가게가 변경할 수 없으며, 취소된 주문은 변경 불가")
+    void testTransitionTable() {
+        assertThrows(OrderModificationNotAllowedException.class, () ->
+                orderService.updateOrderStatus(order.getOrderId(), owner.getUsername(),
+                        new OrderStatusRequestDto(OrderStatus.PAYMENT_COMPLETE)));
+        assertEquals(OrderStatus.PAYMENT_WAIT, orderRepository.findById(order.getOrderId()).orElseThrow().getOrderStatus());
+
+        // 결제
+        transactionTemplate.executeWithoutResult(status ->
+                orderRepository.compareAndSetOrderStatus(order.getOrderId(), OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE));
+
+        OrderStatusConflictException skipped = assertThrows(OrderStatusConflictException.class, () ->
+                orderService.updateOrderStatus(order.getOrderId(), owner.getUsername(),
+                        new OrderStatusRequestDto(OrderStatus.DELIVERING)));
+        assertEquals("주문 상태를 PAYMENT_COMPLETE 에서 DELIVERING (으)로 변경할 수 없습니다.", skipped.getMessage());
+
+        OrderStatusResponseDto accepted = orderService.updateOrderStatus(order.getOrderId(), owner.getUsername(),
+                new OrderStatusRequestDto(OrderStatus.ORDER_IN));
+        assertEquals(OrderStatus.ORDER_IN, accepted.getOrderStatus());
+
+        // 주문을 다시 조회하지 않고 변경 전 조회한 가게, 주문자와 변경된 상태로 이벤트 기록
+        OrderOutbox statusChanged = orderOutboxRepository.findAll().get(0);
+        assertEquals(OrderEventType.ORDER_STATUS_CHANGED, statusChanged.getEventType());
+        assertEquals(OrderStatus.ORDER_IN, statusChanged.getOrderStatus());
+        assertEquals(store.getStoreId(), statusChanged.getStoreId());
+        assertEquals(owner.getUserId(), statusChanged.getUserId());
+
+        orderService.updateOrderStatus(order.getOrderId(), owner.getUsername(), new OrderStatusRequestDto(OrderStatus.ORDER_CANCEL));
+
+        // 취소된 주문은 삭제 처리되어 더 이상 조회, 변경되지 않음
+        assertThrows(UserOrderNotFoundException.class, () ->
+                orderService.updateOrderStatus(order.getOrderId(), owner.getUsername(),
+                        new OrderStatusRequestDto(OrderStatus.ORDER_COMPLETE)));
+        Order canceled = orderRepository.findById(order.getOrderId()).orElseThrow();
+        assertEquals(OrderStatus.ORDER_CANCEL, canceled.getOrderStatus());
+        assertNotNull(canceled.getDeletedAt());
+    }
+
+    @Test
+    @DisplayName("결제 완료와 주문 취소가 동시에 요청되면 조건부 update 로 한 요청만 성공")
+    void testConcurrentTransitionsOnlyOneWins() throws Exception {
+        List<OrderStatus> requested = List.of(OrderStatus.PAYMENT_COMPLETE, OrderStatus.ORDER_CANCEL,
+                OrderStatus.PAYMENT_COMPLETE, OrderStatus.ORDER_CANCEL);
+
+        ExecutorService executor = Executors.newFixedThreadPool(requested.size());
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (OrderStatus next : requested) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return transactionTemplate.execute(status ->
+                        orderRepository.compareAndSetOrderStatus(order.getOrderId(), OrderStatus.PAYMENT_WAIT, next));
+            }));
+        }
+        start.countDown();
+
+        int updated = 0;
+        for (Future<Integer> result : results) {
+            updated += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(1, updated);
+        assertNotEquals(OrderStatus.PAYMENT_WAIT, orderRepository.findById(order.getOrderId()).orElseThrow().getOrderStatus());
+    }
+}
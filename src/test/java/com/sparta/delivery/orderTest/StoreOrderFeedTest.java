@@ -0,0 +1,202 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.order.dto.OrderEventDto;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.service.StoreOrderFeed;
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.codec.ServerSentEvent;
+import org.reactivestreams.Subscription;
+import reactor.core.Disposable;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class StoreOrderFeedTest {
+
+    private final OrderOutboxRepository orderOutboxRepository = mock(OrderOutboxRepository.class);
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private StoreOrderFeed storeOrderFeed;
+
+    private final UUID storeId = UUID.randomUUID();
+    private final UUID otherStoreId = UUID.randomUUID();
+
+    @BeforeEach
+    void setUp() {
+        storeOrderFeed = new StoreOrderFeed(orderOutboxRepository, meterRegistry, 16, 16, 60000, 60000);
+    }
+
+    @Test
+    @DisplayName("가게를 구독한 모든 구독자가 해당 가게의 이벤트만 순서대로 받음")
+    void testFanOutPerStore() throws Exception {
+        CompletableFuture<List<OrderEventDto>> first = events(storeOrderFeed.subscribe(storeId, null), 2);
+        CompletableFuture<List<OrderEventDto>> second = events(storeOrderFeed.subscribe(storeId, null), 2);
+
+        UUID orderId = UUID.randomUUID();
+        storeOrderFeed.onOrderEvent(event(storeId, orderId, OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT));
+        storeOrderFeed.onOrderEvent(event(otherStoreId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT));
+        storeOrderFeed.onOrderEvent(event(storeId, orderId, OrderEventType.PAYMENT_COMPLETED, OrderStatus.PAYMENT_COMPLETE));
+
+        for (CompletableFuture<List<OrderEventDto>> subscriber : List.of(first, second)) {
+            List<OrderEventDto> events = subscriber.get(5, TimeUnit.SECONDS);
+
+            assertEquals(List.of(OrderEventType.ORDER_CREATED, OrderEventType.PAYMENT_COMPLETED),
+                    events.stream().map(OrderEventDto::getEventType).toList());
+            assertEquals(List.of(OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE),
+                    events.stream().map(OrderEventDto::getOrderStatus).toList());
+            assertTrue(events.stream().allMatch(event -> event.getStoreId().equals(storeId)));
+        }
+    }
+
+    @Test
+    @DisplayName("구독 전에 발행된 이벤트는 Last-Event-ID 없이 구독하면 받지 않고, SSE id 는 outbox id")
+    void testNewSubscriberReceivesOnlyLaterEvents() throws Exception {
+        storeOrderFeed.onOrderEvent(event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT));
+
+        CompletableFuture<ServerSentEvent<OrderEventDto>> subscriber = storeOrderFeed.subscribe(storeId, null)
+                .filter(event -> event.data() != null)
+                .next()
+                .toFuture();
+
+        OrderLifecycleEvent later = event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT);
+        storeOrderFeed.onOrderEvent(later);
+
+        ServerSentEvent<OrderEventDto> received = subscriber.get(5, TimeUnit.SECONDS);
+        assertEquals(later.getOrderId(), received.data().getOrderId());
+        assertEquals(later.getEventId().toString(), received.id());
+        verifyNoInteractions(orderOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("Last-Event-ID 로 재연결하면 다른 인스턴스에서 받던 구독자도 outbox 에서 놓친 이벤트부터 이어서 한 번씩 받음")
+    void testResumeFromLastEventIdOnAnotherInstance() throws Exception {
+        // 다른 인스턴스에서 마지막으로 받은 이벤트와, 연결이 끊긴 동안 기록된 이벤트
+        UUID lastEventId = UUID.randomUUID();
+        OrderOutbox missed = outbox(storeId, OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT);
+        OrderOutbox missedAndTailed = outbox(storeId, OrderEventType.PAYMENT_COMPLETED, OrderStatus.PAYMENT_COMPLETE);
+        when(orderOutboxRepository.findStoreEventsAfter(eq(storeId), eq(lastEventId), any()))
+                .thenReturn(List.of(missed, missedAndTailed));
+
+        CompletableFuture<List<OrderEventDto>> resumed = events(storeOrderFeed.subscribe(storeId, lastEventId.toString()), 3);
+
+        // 조회 이후 tailer 가 전달한 이벤트 (조회 결과에 이미 있는 이벤트는 다시 전달하지 않음)
+        storeOrderFeed.onOrderEvent(missedAndTailed.toEvent());
+        OrderLifecycleEvent live = event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CANCELED, OrderStatus.ORDER_CANCEL);
+        storeOrderFeed.onOrderEvent(live);
+
+        List<OrderEventDto> events = resumed.get(5, TimeUnit.SECONDS);
+
+        assertEquals(List.of(missed.getOutboxId(), missedAndTailed.getOutboxId(), live.getEventId()),
+                events.stream().map(OrderEventDto::getEventId).toList());
+    }
+
+    @Test
+    @DisplayName("알 수 없는 형식의 Last-Event-ID 는 무시하고 구독 이후의 이벤트부터 전달")
+    void testUnknownLastEventIdIgnored() throws Exception {
+        CompletableFuture<List<OrderEventDto>> subscriber = events(storeOrderFeed.subscribe(storeId, "42"), 1);
+
+        OrderLifecycleEvent later = event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT);
+        storeOrderFeed.onOrderEvent(later);
+
+        assertEquals(later.getEventId(), subscriber.get(5, TimeUnit.SECONDS).get(0).getEventId());
+        verifyNoInteractions(orderOutboxRepository);
+    }
+
+    @Test
+    @DisplayName("가게의 마지막 구독자가 끊기면 채널이 제거되고, 다시 구독하면 새 채널로 이벤트를 받음")
+    void testChannelRemovedAfterLastSubscriberCancels() throws Exception {
+        Disposable first = storeOrderFeed.subscribe(storeId, null).subscribe();
+        Disposable second = storeOrderFeed.subscribe(storeId, null).subscribe();
+        Disposable other = storeOrderFeed.subscribe(otherStoreId, null).subscribe();
+        assertEquals(2, channels());
+
+        first.dispose();
+        assertEquals(2, channels());
+        second.dispose();
+        other.dispose();
+        assertEquals(0, channels());
+        assertEquals(0, meterRegistry.get("order.feed.subscribers").gauge().value());
+
+        // 구독자가 없는 가게의 이벤트는 채널을 만들지 않음
+        storeOrderFeed.onOrderEvent(event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT));
+        assertEquals(0, channels());
+
+        CompletableFuture<List<OrderEventDto>> resubscribed = events(storeOrderFeed.subscribe(storeId, null), 1);
+        OrderLifecycleEvent later = event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT);
+        storeOrderFeed.onOrderEvent(later);
+
+        assertEquals(later.getEventId(), resubscribed.get(5, TimeUnit.SECONDS).get(0).getEventId());
+        assertEquals(0, channels()); // 이벤트 count 개를 받아 구독이 끝남
+    }
+
+    @Test
+    @DisplayName("전달이 밀린 구독자는 스트림이 종료되고 채널에서 제거됨")
+    void testSlowSubscriberDisconnected() throws Exception {
+        // 이벤트를 요청하지 않는 구독자
+        CompletableFuture<Void> completed = new CompletableFuture<>();
+        storeOrderFeed.subscribe(storeId, null).subscribe(new BaseSubscriber<>() {
+            @Override
+            protected void hookOnSubscribe(Subscription subscription) {
+            }
+
+            @Override
+            protected void hookOnComplete() {
+                completed.complete(null);
+            }
+        });
+
+        for (int i = 0; i < 100; i++) {
+            storeOrderFeed.onOrderEvent(event(storeId, UUID.randomUUID(), OrderEventType.ORDER_CREATED, OrderStatus.PAYMENT_WAIT));
+        }
+
+        completed.get(5, TimeUnit.SECONDS);
+        assertEquals(0, channels());
+    }
+
+    // heartbeat 주석을 제외한 이벤트 count 개를 받을 때까지 구독
+    private CompletableFuture<List<OrderEventDto>> events(Flux<ServerSentEvent<OrderEventDto>> stream, int count) {
+        return stream.filter(event -> event.data() != null)
+                .map(ServerSentEvent::data)
+                .take(count)
+                .collectList()
+                .toFuture();
+    }
+
+    private double channels() {
+        return meterRegistry.get("order.feed.channels").gauge().value();
+    }
+
+    private OrderLifecycleEvent event(UUID storeId, UUID orderId, OrderEventType eventType, OrderStatus orderStatus) {
+        return new OrderLifecycleEvent(UUID.randomUUID(), eventType, orderId, storeId, UUID.randomUUID(), orderStatus, LocalDateTime.now());
+    }
+
+    private OrderOutbox outbox(UUID storeId, OrderEventType eventType, OrderStatus orderStatus) {
+        return OrderOutbox.builder()
+                .outboxId(UUID.randomUUID())
+                .eventType(eventType)
+                .orderId(UUID.randomUUID())
+                .storeId(storeId)
+                .userId(UUID.randomUUID())
+                .orderStatus(orderStatus)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
@@ -0,0 +1,141 @@
+package com.sparta.delivery.orderTest;
+
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.UnpaidOrderSweeper;
+import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// batch 를 나눠 처리하는지 확인하기 위해 batch 크기를 1 로 설정
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.order.unpaid-sweeper.batch-size=1")
+@Transactional
+class UnpaidOrderSweeperTest {
+
+    @Autowired
+    private UnpaidOrderSweeper unpaidOrderSweeper;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private User customer;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        User owner = userRepository.save(User.builder()
+                .username("sweeperOwner")
+                .email("sweeperOwner@example.com")
+                .password("password")
+                .nickname("sweeperOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        customer = userRepository.save(User.builder()
+                .username("sweeperCustomer")
+                .email("sweeperCustomer@example.com")
+                .password("password")
+                .nickname("sweeperCustomer")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("sweeperStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("sweeperProduct")
+                .description("yummy~")
+                .price(11000)
+                .quantity(10)
+                .hidden(false)
+                .build());
+    }
+
+    @Test
+    @DisplayName("결제 시간이 지난 결제 대기 주문만 취소(삭제 처리)하고 상품 재고 반환")
+    void testSweepStaleUnpaidOrders() {
+        LocalDateTime stale = LocalDateTime.now().minusHours(1);
+        Order staleOrder = saveOrder(OrderStatus.PAYMENT_WAIT, stale, 2);
+        Order otherStaleOrder = saveOrder(OrderStatus.PAYMENT_WAIT, stale, 3);
+        Order recentOrder = saveOrder(OrderStatus.PAYMENT_WAIT, LocalDateTime.now(), 4);
+        Order paidOrder = saveOrder(OrderStatus.PAYMENT_COMPLETE, stale, 5);
+        entityManager.flush();
+        entityManager.clear();
+
+        double sweptBefore = meterRegistry.counter("order.unpaid.swept").count();
+
+        assertEquals(2, unpaidOrderSweeper.sweep());
+        assertEquals(0, unpaidOrderSweeper.sweep());
+
+        for (Order canceled : List.of(staleOrder, otherStaleOrder)) {
+            Order swept = orderRepository.findById(canceled.getOrderId()).orElseThrow();
+            assertEquals(OrderStatus.ORDER_CANCEL, swept.getOrderStatus());
+            assertNotNull(swept.getDeletedAt());
+            assertEquals("system", swept.getDeletedBy());
+        }
+        assertTrue(orderRepository.findByOrderIdAndDeletedAtIsNull(staleOrder.getOrderId()).isEmpty());
+        assertEquals(OrderStatus.PAYMENT_WAIT, statusOf(recentOrder));
+        assertEquals(OrderStatus.PAYMENT_COMPLETE, statusOf(paidOrder));
+        assertEquals(15, productRepository.findById(product.getProductId()).orElseThrow().getQuantity());
+        assertEquals(2, meterRegistry.counter("order.unpaid.swept").count() - sweptBefore);
+    }
+
+    private Order saveOrder(OrderStatus orderStatus, LocalDateTime orderTime, int quantity) {
+        Order order = Order.builder()
+                .orderTime(orderTime)
+                .orderType(OrderType.PACKAGING)
+                .orderStatus(orderStatus)
+                .stores(store)
+                .user(customer)
+                .build();
+        order.getOrderProductList().add(new OrderProduct(order, product, quantity));
+        return orderRepository.save(order);
+    }
+
+    private OrderStatus statusOf(Order order) {
+        return orderRepository.findById(order.getOrderId()).orElseThrow().getOrderStatus();
+    }
+}
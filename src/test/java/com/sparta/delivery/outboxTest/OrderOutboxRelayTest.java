@@ -0,0 +1,248 @@
+package com.sparta.delivery.outboxTest;
+
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderEventPublisher;
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.interfaces.OutboxBroker;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import com.sparta.delivery.domain.outbox.service.LocalOutboxBroker;
+import com.sparta.delivery.domain.outbox.service.OrderOutboxRelay;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커밋된 outbox 행과 행 잠금을 검증하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@RecordApplicationEvents
+class OrderOutboxRelayTest {
+
+    @Autowired
+    private OrderOutboxRelay orderOutboxRelay;
+
+    @Autowired
+    private OrderEventPublisher orderEventPublisher;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private LocalOutboxBroker localOutboxBroker;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    // broker 장애 상황 (항상 전달 실패)
+    private final OutboxBroker unavailableBroker = event -> {
+        throw new IllegalStateException("broker unavailable");
+    };
+
+    private User owner;
+    private Stores store;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("outboxOwner")
+                .email("outbox@example.com")
+                .password("password")
+                .nickname("outboxOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("outboxStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        orderOutboxRepository.deleteAllInBatch();
+        orderRepository.deleteAllInBatch();
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("주문과 같은 트랜잭션에서 기록된 이벤트는 커밋된 것만 broker 로 한 번 전달됨")
+    void testRelayDeliversCommittedEvents() {
+        Order order = transactionTemplate.execute(status -> {
+            Order saved = orderRepository.save(Order.builder()
+                    .orderTime(LocalDateTime.now())
+                    .orderType(OrderType.PACKAGING)
+                    .orderStatus(OrderStatus.PAYMENT_WAIT)
+                    .stores(store)
+                    .user(owner)
+                    .build());
+            orderEventPublisher.publish(saved, OrderEventType.ORDER_CREATED);
+            return saved;
+        });
+
+        // 롤백된 주문 변경의 이벤트는 기록되지 않음
+        transactionTemplate.executeWithoutResult(status -> {
+            orderEventPublisher.publish(order, OrderEventType.ORDER_CANCELED);
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, orderOutboxRelay.relay());
+        assertEquals(0, orderOutboxRelay.relay());
+
+        List<OrderLifecycleEvent> received = localOutboxBroker.getPublished().stream()
+                .filter(event -> event.getOrderId().equals(order.getOrderId()))
+                .toList();
+        assertEquals(1, received.size());
+        assertEquals(OrderEventType.ORDER_CREATED, received.get(0).getEventType());
+
+        OrderOutbox outbox = orderOutboxRepository.findById(received.get(0).getEventId()).orElseThrow();
+        assertNotNull(outbox.getPublishedAt());
+
+        // in-process 구독자(가게 주문 피드)에는 relay 가 아닌 인스턴스별 OrderOutboxTailer 가 전달
+        assertEquals(0, applicationEvents.stream(OrderLifecycleEvent.class).count());
+    }
+
+    @Test
+    @DisplayName("여러 relay 가 동시에 실행되어도 각 이벤트는 한 번씩만 전달됨 (SKIP LOCKED)")
+    void testConcurrentRelaysDoNotDuplicate() throws Exception {
+        int eventCount = 300;
+        List<OrderOutbox> outboxes = new ArrayList<>();
+        for (int i = 0; i < eventCount; i++) {
+            outboxes.add(OrderOutbox.builder()
+                    .eventType(OrderEventType.ORDER_CREATED)
+                    .orderId(UUID.randomUUID())
+                    .storeId(store.getStoreId())
+                    .userId(owner.getUserId())
+                    .orderStatus(OrderStatus.PAYMENT_WAIT)
+                    .occurredAt(LocalDateTime.now())
+                    .build());
+        }
+        Set<UUID> outboxIds = orderOutboxRepository.saveAll(outboxes).stream()
+                .map(OrderOutbox::getOutboxId)
+                .collect(Collectors.toSet());
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Integer>> results = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            results.add(executor.submit(() -> {
+                start.await();
+                return orderOutboxRelay.relay();
+            }));
+        }
+        start.countDown();
+
+        int relayed = 0;
+        for (Future<Integer> result : results) {
+            relayed += result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+        relayed += orderOutboxRelay.relay(); // 잠금 경합으로 건너뛴 행이 남았다면 마저 전달
+
+        Map<UUID, Long> deliveredCount = localOutboxBroker.getPublished().stream()
+                .map(OrderLifecycleEvent::getEventId)
+                .filter(outboxIds::contains)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        assertEquals(eventCount, relayed);
+        assertEquals(eventCount, deliveredCount.size());
+        assertTrue(deliveredCount.values().stream().allMatch(count -> count == 1));
+    }
+
+    @Test
+    @DisplayName("전달에 실패한 이벤트는 바로 다시 가져오지 않고 재시도 시각까지 미룸")
+    void testFailedEventBacksOff() {
+        OrderOutboxRelay failingRelay = failingRelay(3, 60000);
+        OrderOutbox outbox = orderOutboxRepository.save(newOutbox());
+
+        assertEquals(0, failingRelay.relay());
+        assertEquals(0, failingRelay.relay());
+
+        OrderOutbox failed = orderOutboxRepository.findById(outbox.getOutboxId()).orElseThrow();
+        assertEquals(1, failed.getAttempts());
+        assertTrue(failed.getNextAttemptAt().isAfter(LocalDateTime.now().plusSeconds(50)));
+        assertNull(failed.getDeadLetteredAt());
+        assertNull(failed.getPublishedAt());
+    }
+
+    @Test
+    @DisplayName("최대 횟수만큼 실패한 이벤트는 dead letter 로 표시되고 gauge 로 집계됨")
+    void testExhaustedEventMovedToDeadLetter() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        OrderOutboxRelay failingRelay = new OrderOutboxRelay(orderOutboxRepository, unavailableBroker,
+                transactionTemplate, meterRegistry, 100, 10, 3, 0, 0, 86400000);
+        OrderOutbox outbox = orderOutboxRepository.save(newOutbox());
+
+        for (int i = 0; i < 5; i++) {
+            failingRelay.relay();
+        }
+
+        OrderOutbox deadLetter = orderOutboxRepository.findById(outbox.getOutboxId()).orElseThrow();
+        assertEquals(3, deadLetter.getAttempts());
+        assertNotNull(deadLetter.getDeadLetteredAt());
+        assertNull(deadLetter.getPublishedAt());
+
+        assertEquals(1, failingRelay.countDeadLetters());
+        assertEquals(1, meterRegistry.get("order.outbox.dead_letter").gauge().value());
+        assertEquals(1, meterRegistry.counter("order.outbox.dead_lettered").count());
+        assertEquals(3, meterRegistry.counter("order.outbox.failed").count());
+
+        // dead letter 는 보관 기간이 지나도 정리되지 않음
+        assertEquals(0, failingRelay.purgePublished());
+    }
+
+    private OrderOutboxRelay failingRelay(int maxAttempts, long backoffMs) {
+        return new OrderOutboxRelay(orderOutboxRepository, unavailableBroker,
+                transactionTemplate, new SimpleMeterRegistry(), 100, 10, maxAttempts, backoffMs, backoffMs, 86400000);
+    }
+
+    private OrderOutbox newOutbox() {
+        return OrderOutbox.builder()
+                .eventType(OrderEventType.ORDER_CREATED)
+                .orderId(UUID.randomUUID())
+                .storeId(store.getStoreId())
+                .userId(owner.getUserId())
+                .orderStatus(OrderStatus.PAYMENT_WAIT)
+                .occurredAt(LocalDateTime.now())
+                .build();
+    }
+}
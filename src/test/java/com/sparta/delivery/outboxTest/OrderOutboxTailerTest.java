@@ -0,0 +1,140 @@
+package com.sparta.delivery.outboxTest;
+
+import com.sparta.delivery.domain.order.dto.OrderEventDto;
+import com.sparta.delivery.domain.order.enums.OrderEventType;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.service.StoreOrderFeed;
+import com.sparta.delivery.domain.outbox.dto.OrderLifecycleEvent;
+import com.sparta.delivery.domain.outbox.entity.OrderOutbox;
+import com.sparta.delivery.domain.outbox.repository.OrderOutboxRepository;
+import com.sparta.delivery.domain.outbox.service.OrderOutboxTailer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 다른 인스턴스가 커밋한 outbox 행을 읽는지 검증하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@RecordApplicationEvents
+class OrderOutboxTailerTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    private OrderOutboxTailer orderOutboxTailer;
+
+    @Autowired
+    private OrderOutboxRepository orderOutboxRepository;
+
+    @Autowired
+    private StoreOrderFeed storeOrderFeed;
+
+    @Autowired
+    private ApplicationEvents applicationEvents;
+
+    @Autowired
+    private ApplicationEventPublisher applicationEventPublisher;
+
+    private final UUID storeId = UUID.randomUUID();
+
+    @AfterEach
+    void tearDown() {
+        orderOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스가 기록한 이벤트도 가게 주문 피드로 한 번씩 전달됨")
+    void testTailDeliversEventsFromAnyInstance() throws Exception {
+        CompletableFuture<List<UUID>> feed = storeOrderFeed.subscribe(storeId, null)
+                .filter(event -> event.data() != null)
+                .map(event -> event.data().getEventId())
+                .take(Duration.ofSeconds(1))
+                .collectList()
+                .toFuture();
+
+        // 다른 인스턴스에서 주문과 함께 커밋된 이벤트
+        OrderOutbox created = orderOutboxRepository.save(outbox(OrderEventType.ORDER_CREATED, LocalDateTime.now()));
+        OrderOutbox paid = orderOutboxRepository.save(outbox(OrderEventType.PAYMENT_COMPLETED, LocalDateTime.now()));
+
+        orderOutboxTailer.tail();
+        orderOutboxTailer.tail(); // overlap 구간을 다시 읽어도 다시 전달하지 않음
+
+        assertEquals(List.of(created.getOutboxId(), paid.getOutboxId()), feed.get(5, TimeUnit.SECONDS));
+        assertEquals(2, applicationEvents.stream(OrderLifecycleEvent.class)
+                .filter(event -> event.getStoreId().equals(storeId))
+                .count());
+    }
+
+    @Test
+    @DisplayName("이미 읽은 시각보다 먼저 발생했지만 늦게 커밋된 이벤트는 overlap 구간 안이면 전달됨")
+    void testLateCommittedEventWithinOverlap() {
+        OrderOutboxTailer tailer = new OrderOutboxTailer(orderOutboxRepository, applicationEventPublisher,
+                new SimpleMeterRegistry(), 500, 10, 5000);
+
+        orderOutboxRepository.save(outbox(OrderEventType.ORDER_CREATED, LocalDateTime.now()));
+        assertEquals(1, tailer.tail());
+
+        // 2초 전에 시작해 방금 커밋된 트랜잭션의 이벤트
+        orderOutboxRepository.save(outbox(OrderEventType.ORDER_CREATED, LocalDateTime.now().minusSeconds(2)));
+        assertEquals(1, tailer.tail());
+
+        // overlap 보다 오래 걸린 트랜잭션의 이벤트는 전달되지 않음
+        orderOutboxRepository.save(outbox(OrderEventType.ORDER_CREATED, LocalDateTime.now().minusMinutes(1)));
+        assertEquals(0, tailer.tail());
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스로 재연결해도 Last-Event-ID 이후의 가게 이벤트를 outbox 에서 이어서 받음")
+    void testResumeOnAnotherInstance() {
+        LocalDateTime now = LocalDateTime.now();
+        OrderOutbox last = orderOutboxRepository.save(outbox(OrderEventType.ORDER_CREATED, now.minusSeconds(3)));
+        OrderOutbox missed = orderOutboxRepository.save(outbox(OrderEventType.PAYMENT_COMPLETED, now.minusSeconds(2)));
+        OrderOutbox otherStore = orderOutboxRepository.save(outbox(UUID.randomUUID(), OrderEventType.ORDER_CREATED, now.minusSeconds(1)));
+
+        // 이벤트를 한 번도 발행하지 않은 새 인스턴스의 피드
+        StoreOrderFeed anotherInstance = new StoreOrderFeed(orderOutboxRepository, new SimpleMeterRegistry(), 16, 16, 60000, 60000);
+
+        List<ServerSentEvent<OrderEventDto>> resumed = anotherInstance.subscribe(storeId, last.getOutboxId().toString())
+                .filter(event -> event.data() != null)
+                .take(Duration.ofSeconds(1))
+                .collectList()
+                .block(TIMEOUT);
+
+        assertEquals(1, resumed.size());
+        assertEquals(missed.getOutboxId().toString(), resumed.get(0).id());
+        assertEquals(OrderEventType.PAYMENT_COMPLETED, resumed.get(0).data().getEventType());
+        assertNotEquals(otherStore.getOutboxId().toString(), resumed.get(0).id());
+    }
+
+    private OrderOutbox outbox(OrderEventType eventType, LocalDateTime occurredAt) {
+        return outbox(storeId, eventType, occurredAt);
+    }
+
+    private OrderOutbox outbox(UUID storeId, OrderEventType eventType, LocalDateTime occurredAt) {
+        return OrderOutbox.builder()
+                .eventType(eventType)
+                .orderId(UUID.randomUUID())
+                .storeId(storeId)
+                .userId(UUID.randomUUID())
+                .orderStatus(OrderStatus.PAYMENT_WAIT)
+                .occurredAt(occurredAt)
+                .build();
+    }
+}
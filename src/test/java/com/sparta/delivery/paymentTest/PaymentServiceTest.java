@@ -6,6 +6,7 @@ import com.sparta.delivery.domain.card.repository.CardRepository;
 import com.sparta.delivery.domain.order.entity.Order;
 import com.sparta.delivery.domain.order.enums.OrderStatus;
 import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderEventPublisher;
 import com.sparta.delivery.domain.payment.dto.PaymentDto;
 import com.sparta.delivery.domain.payment.dto.RegisterPaymentDto;
 import com.sparta.delivery.domain.payment.dto.SearchDto;
@@ -13,7 +14,7 @@ import com.sparta.delivery.domain.payment.entity.Payment;
 import com.sparta.delivery.domain.payment.repository.PaymentRepository;
 import com.sparta.delivery.domain.payment.service.PaymentService;
 import com.sparta.delivery.domain.user.entity.User;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -41,11 +42,14 @@ public class PaymentServiceTest {
     private CardRepository cardRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserResolver userResolver;
 
     @Mock
     private OrderRepository orderRepository;
 
+    @Mock
+    private OrderEventPublisher orderEventPublisher;
+
     private User testUser;
     private UUID cardId;
 
@@ -92,8 +96,9 @@ public class PaymentServiceTest {
         RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000,orderId);
 
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser")).thenReturn(Optional.of(testCard));
+        when(orderRepository.compareAndSetOrderStatus(orderId, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE)).thenReturn(1);
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.getReference("testuser")).thenReturn(Optional.of(testUser));
         when(paymentRepository.save(any(Payment.class))).thenReturn(testPayment);
         assertDoesNotThrow(() -> paymentService.isRegisterPayment(registerPaymentDto, "testuser"));
     }
@@ -106,8 +111,9 @@ public class PaymentServiceTest {
         RegisterPaymentDto registerPaymentDto = new RegisterPaymentDto(cardId, 10000,orderId);
 
         when(cardRepository.findByCardIdAndDeletedAtIsNullAndUser_Username(cardId,"testuser")).thenReturn(Optional.of(testCard));
+        when(orderRepository.compareAndSetOrderStatus(orderId, OrderStatus.PAYMENT_WAIT, OrderStatus.PAYMENT_COMPLETE)).thenReturn(0);
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.getReference("testuser")).thenReturn(Optional.of(testUser));
 
         PaymentAlreadyCompletedException exception = assertThrows(PaymentAlreadyCompletedException.class,
                 () -> paymentService.isRegisterPayment(registerPaymentDto, "testuser"));
@@ -118,7 +124,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 조회 성공")
     void testGetPaymentSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
 
@@ -131,7 +137,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 조회 실패 : 결제 내역 없음")
     void testGetPaymentFailNotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.empty());
 
         NullPointerException exception = assertThrows(NullPointerException.class,
@@ -143,7 +149,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("전체 결제 내역 조회")
     void testGetPaymentsSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
         when(paymentRepository.findByUser_UsernameAndDeletedAtIsNull("testuser")).thenReturn(List.of(testPayment));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
@@ -159,7 +165,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("전체 결제 내역 조회 실패 : 결제 내역 없음")
     void testGetPaymentsFailNoPayments() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
         when(paymentRepository.findByUser_UsernameAndDeletedAtIsNull("testuser")).thenReturn(List.of());
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         when(orderRepository.findByOrderIdAndDeletedAtIsNull(orderId)).thenReturn(Optional.of(testOrder));
@@ -174,9 +180,14 @@ public class PaymentServiceTest {
     @DisplayName("결제 내역 검색 성공")
     void testSearchPaymentsSuccess() {
         SearchDto searchDto = new SearchDto();
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
-        when(paymentRepository.searchPayments(searchDto, "testuser")).thenReturn(List.of(testPayment));
-        when(paymentRepository.searchPayments(null, "testuser")).thenReturn(List.of(testPayment));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
+        PaymentDto testPaymentDto = PaymentDto.builder()
+                .paymentId(testPayment.getPaymentId())
+                .amount(testPayment.getAmount())
+                .orderId(testOrder.getOrderId())
+                .build();
+        when(paymentRepository.searchPayments(searchDto, "testuser")).thenReturn(List.of(testPaymentDto));
+        when(paymentRepository.searchPayments(null, "testuser")).thenReturn(List.of(testPaymentDto));
 
         List<PaymentDto> searchResult = paymentService.searchPayments(searchDto, "testuser");
         List<PaymentDto> searchNullResult = paymentService.searchPayments(null, "testuser");
@@ -193,7 +204,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 삭제 성공")
     void testDeletePaymentSuccess() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.of(testPayment));
         assertDoesNotThrow(() -> paymentService.deletePayment(paymentId, "testuser"));
     }
@@ -201,7 +212,7 @@ public class PaymentServiceTest {
     @Test
     @DisplayName("결제 내역 삭제 실패 : 결제 정보 없음")
     void testDeletePaymentFailNotFound() {
-        when(userRepository.findByUsernameAndDeletedAtIsNull("testuser")).thenReturn(Optional.of(testUser));
+        when(userResolver.findUserId("testuser")).thenReturn(Optional.of(testUser.getUserId()));
         when(paymentRepository.findByPaymentIdAndDeletedAtIsNullAndUser_Username(paymentId,"testuser")).thenReturn(Optional.empty());
 
         NullPointerException exception = assertThrows(NullPointerException.class,
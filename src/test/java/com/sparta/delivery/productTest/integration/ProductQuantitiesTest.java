@@ -0,0 +1,163 @@
+package com.sparta.delivery.productTest.integration;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.order.dto.OrderProductRequestDto;
+import com.sparta.delivery.domain.order.dto.OrderRequestDto;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 재고 부족 시 트랜잭션 전체가 롤백되는지 확인해야 하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductQuantitiesTest {
+
+    private static final int STOCK = 5;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Stores store;
+    private final List<Product> products = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("quantitiesOwner")
+                .email("quantities@example.com")
+                .password("password")
+                .nickname("quantitiesOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("quantitiesStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        for (int i = 0; i < 4; i++) {
+            products.add(productRepository.save(Product.builder()
+                    .store(store)
+                    .name("product" + i)
+                    .description("yummy~")
+                    .price(11000)
+                    .quantity(STOCK)
+                    .hidden(false)
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        products.forEach(product -> productRepository.deleteById(product.getProductId()));
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("상품마다 수량이 달라도 수량별로 묶어 각 상품에서 정확히 차감, 반환")
+    void testMixedCounts() {
+        Map<UUID, Integer> countByProductId = new LinkedHashMap<>();
+        countByProductId.put(idOf(0), 1);
+        countByProductId.put(idOf(1), 2);
+        countByProductId.put(idOf(2), 1);
+        countByProductId.put(idOf(3), 5);
+
+        productService.decreaseProductQuantities(countByProductId);
+
+        assertEquals(List.of(4, 3, 4, 0), currentQuantities());
+
+        productService.increaseProductQuantities(countByProductId);
+
+        assertEquals(List.of(5, 5, 5, 5), currentQuantities());
+    }
+
+    @Test
+    @DisplayName("재고가 부족한 상품이 하나라도 있으면 이미 차감한 다른 상품까지 모두 롤백")
+    void testInsufficientStockRollsBackAll() {
+        Map<UUID, Integer> countByProductId = new LinkedHashMap<>();
+        countByProductId.put(idOf(0), 1);
+        countByProductId.put(idOf(1), 1);
+        countByProductId.put(idOf(2), 2);
+        countByProductId.put(idOf(3), STOCK + 1);
+
+        assertThrows(ProductQuantityNotAllowedException.class, () -> productService.decreaseProductQuantities(countByProductId));
+
+        assertEquals(List.of(5, 5, 5, 5), currentQuantities());
+    }
+
+    @Test
+    @DisplayName("productId 목록과 orderProducts 목록에 같은 상품이 있으면 합친 수량으로 한 번 차감")
+    void testDuplicateProductInBothRequestLists() {
+        OrderRequestDto requestDto = OrderRequestDto.builder()
+                .storeId(store.getStoreId())
+                .productId(List.of(idOf(0), idOf(1), idOf(0)))
+                .orderProducts(List.of(
+                        new OrderProductRequestDto(idOf(0), 2),
+                        new OrderProductRequestDto(idOf(1), 1)))
+                .orderType(OrderType.PACKAGING)
+                .build();
+
+        Map<UUID, Integer> countByProductId = requestDto.quantityByProductId();
+        assertEquals(Map.of(idOf(0), 4, idOf(1), 2), countByProductId);
+
+        productService.decreaseProductQuantities(countByProductId);
+
+        assertEquals(List.of(1, 3, 5, 5), currentQuantities());
+
+        // 합친 수량이 재고를 넘으면 재고 부족
+        OrderRequestDto overRequestDto = OrderRequestDto.builder()
+                .storeId(store.getStoreId())
+                .productId(List.of(idOf(1)))
+                .orderProducts(List.of(new OrderProductRequestDto(idOf(1), 3)))
+                .orderType(OrderType.PACKAGING)
+                .build();
+
+        assertThrows(ProductQuantityNotAllowedException.class,
+                () -> productService.decreaseProductQuantities(overRequestDto.quantityByProductId()));
+        assertEquals(List.of(1, 3, 5, 5), currentQuantities());
+    }
+
+    private UUID idOf(int index) {
+        return products.get(index).getProductId();
+    }
+
+    private List<Integer> currentQuantities() {
+        return products.stream()
+                .map(product -> productRepository.findById(product.getProductId()).orElseThrow().getQuantity())
+                .toList();
+    }
+}
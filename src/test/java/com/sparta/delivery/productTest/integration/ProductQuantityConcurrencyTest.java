@@ -0,0 +1,122 @@
+package com.sparta.delivery.productTest.integration;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.interfaces.StockReservation;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 주문 생성이 사용하는 재고 예약 경로를 검증
+// 여러 스레드가 커밋된 데이터를 봐야 하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+class ProductQuantityConcurrencyTest {
+
+    private static final int STOCK = 10;
+    private static final int THREADS = 16;
+    private static final int REQUESTS = 50;
+
+    @Autowired
+    private StockReservation stockReservation;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private User owner;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("concurrencyOwner")
+                .email("concurrency@example.com")
+                .password("password")
+                .nickname("concurrencyOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("concurrencyStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("hotProduct")
+                .description("yummy~")
+                .price(11000)
+                .quantity(STOCK)
+                .hidden(false)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("한 상품에 동시에 주문이 몰려도 재고보다 많이 차감되지 않음")
+    void testConcurrentDecreaseNeverOversells() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(REQUESTS);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        for (int i = 0; i < REQUESTS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    stockReservation.reserve(Map.of(product.getProductId(), 1));
+                    succeeded.incrementAndGet();
+                } catch (ProductQuantityNotAllowedException e) {
+                    soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        assertEquals(STOCK, succeeded.get());
+        assertEquals(REQUESTS - STOCK, soldOut.get());
+        assertEquals(0, productRepository.findById(product.getProductId()).orElseThrow().getQuantity());
+    }
+}
@@ -0,0 +1,172 @@
+package com.sparta.delivery.productTest.integration;
+
+import com.sparta.delivery.config.global.exception.custom.ProductQuantityNotAllowedException;
+import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.StockLedger;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 커밋 이후 동작을 검증하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest(properties = {
+        "spring.product.stock-ledger.enabled=true",
+        "spring.product.stock-ledger.chunk-size=10",
+        "spring.product.stock-ledger.reconcile-interval-ms=3600000"
+})
+class StockLedgerTest {
+
+    @Autowired
+    private StockLedger stockLedger;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private User owner;
+    private Stores store;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        owner = userRepository.save(User.builder()
+                .username("ledgerOwner")
+                .email("ledger@example.com")
+                .password("password")
+                .nickname("ledgerOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("ledgerStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(owner)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        stockLedger.reconcile();
+        productRepository.deleteById(product.getProductId());
+        storeRepository.deleteById(store.getStoreId());
+        userRepository.deleteById(owner.getUserId());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 ledger 로 동시에 예약해도 재고보다 많이 예약되지 않고, 남은 재고는 반환됨")
+    void testConcurrentReserveNeverOversells() throws InterruptedException {
+        product = saveProduct(23);
+
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(50);
+        AtomicInteger succeeded = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        for (int i = 0; i < 50; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    reserveOne();
+                    succeeded.incrementAndGet();
+                } catch (ProductQuantityNotAllowedException e) {
+                    soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertTrue(done.await(30, TimeUnit.SECONDS));
+        executor.shutdown();
+
+        stockLedger.reconcile();
+
+        assertEquals(23, succeeded.get());
+        assertEquals(27, soldOut.get());
+        assertEquals(0, currentQuantity());
+    }
+
+    @Test
+    @DisplayName("주문 트랜잭션이 롤백되면 예약한 재고가 반환됨")
+    void testRollbackReturnsReservation() {
+        product = saveProduct(10);
+
+        reserveOne(); // chunk 10 확보, 1 사용, 9 보관
+
+        transactionTemplate.executeWithoutResult(status -> {
+            stockLedger.reserve(Map.of(product.getProductId(), 1));
+            status.setRollbackOnly();
+        });
+
+        assertEquals(9, stockLedger.reconcile());
+        assertEquals(9, currentQuantity());
+    }
+
+    @Test
+    @DisplayName("점주가 재고를 다시 설정하면 이전 재고 기준으로 확보한 수량은 반환되지 않음")
+    void testOwnerStockResetDiscardsClaimedQuantity() {
+        product = saveProduct(10);
+
+        reserveOne(); // chunk 10 확보, 1 사용, 9 보관
+
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.findById(product.getProductId()).orElseThrow()
+                        .update(ProductUpdateRequestDto.builder().quantity(5).build()));
+
+        assertEquals(0, stockLedger.reconcile());
+        assertEquals(5, currentQuantity());
+    }
+
+    private Product saveProduct(int quantity) {
+        return productRepository.save(Product.builder()
+                .store(store)
+                .name("promotionProduct")
+                .description("yummy~")
+                .price(11000)
+                .quantity(quantity)
+                .hidden(false)
+                .build());
+    }
+
+    private void reserveOne() {
+        transactionTemplate.executeWithoutResult(status -> stockLedger.reserve(Map.of(product.getProductId(), 1)));
+    }
+
+    private int currentQuantity() {
+        return productRepository.findById(product.getProductId()).orElseThrow().getQuantity();
+    }
+}
@@ -288,11 +288,11 @@ public class ProductServiceTest {
             @Test
             @DisplayName("해당 상품이 존재하지 않으면 ProductNotFoundException을 발생시킨다.")
             void updateProductFailProductNotFound() {
-                when(productRepository.findById(any(UUID.class))).thenReturn(java.util.Optional.empty());
+                when(productRepository.findWithStoreOwnerByProductId(any(UUID.class))).thenReturn(java.util.Optional.empty());
 
                 ProductNotFoundException exception = assertThrows(ProductNotFoundException.class, () -> productService.updateProduct(productId, productUpdateRequestDto, principalDetails));
                 assertEquals("해당 상품을 찾을 수 없습니다.", exception.getMessage());
-                verify(productRepository, times(1)).findById(any(UUID.class));
+                verify(productRepository, times(1)).findWithStoreOwnerByProductId(any(UUID.class));
             }
         }
     }
@@ -307,11 +307,11 @@ public class ProductServiceTest {
             @Test
             @DisplayName("해당 상품이 존재하지 않으면 ProductNotFoundException을 발생시킨다.")
             void deleteProductFailProductNotFound() {
-                when(productRepository.findById(any(UUID.class))).thenReturn(java.util.Optional.empty());
+                when(productRepository.findWithStoreOwnerByProductId(any(UUID.class))).thenReturn(java.util.Optional.empty());
 
                 ProductNotFoundException exception = assertThrows(ProductNotFoundException.class, () -> productService.deleteProduct(productId, principalDetails));
                 assertEquals("해당 상품을 찾을 수 없습니다.", exception.getMessage());
-                verify(productRepository, times(1)).findById(any(UUID.class));
+                verify(productRepository, times(1)).findWithStoreOwnerByProductId(any(UUID.class));
             }
         }
     }
@@ -0,0 +1,258 @@
+package com.sparta.delivery.statementCountTest;
+
+import com.sparta.delivery.config.auth.PrincipalDetails;
+import com.sparta.delivery.domain.card.entity.Card;
+import com.sparta.delivery.domain.card.repository.CardRepository;
+import com.sparta.delivery.domain.delivery_address.entity.DeliveryAddress;
+import com.sparta.delivery.domain.delivery_address.repository.DeliveryAddressRepository;
+import com.sparta.delivery.domain.delivery_address.service.DeliveryAddressService;
+import com.sparta.delivery.domain.order.entity.Order;
+import com.sparta.delivery.domain.order.enums.OrderStatus;
+import com.sparta.delivery.domain.order.enums.OrderType;
+import com.sparta.delivery.domain.order.repository.OrderRepository;
+import com.sparta.delivery.domain.order.service.OrderService;
+import com.sparta.delivery.domain.orderProduct.entity.OrderProduct;
+import com.sparta.delivery.domain.payment.entity.Payment;
+import com.sparta.delivery.domain.payment.repository.PaymentRepository;
+import com.sparta.delivery.domain.payment.service.PaymentService;
+import com.sparta.delivery.domain.product.dto.ProductUpdateRequestDto;
+import com.sparta.delivery.domain.product.entity.Product;
+import com.sparta.delivery.domain.product.repository.ProductRepository;
+import com.sparta.delivery.domain.product.service.ProductService;
+import com.sparta.delivery.domain.review.entity.Review;
+import com.sparta.delivery.domain.review.repository.ReviewRepository;
+import com.sparta.delivery.domain.review.service.ReviewService;
+import com.sparta.delivery.domain.store.entity.Stores;
+import com.sparta.delivery.domain.store.repository.StoreRepository;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * API(서비스 메서드)별 SQL 실행 횟수 회귀 테스트
+ *
+ * 모든 연관관계가 LAZY 이므로 각 API 는 자신의 fetch plan 에 정의된 쿼리만 실행해야 합니다.
+ * 쿼리 수가 바뀌면 fetch plan 변경이 의도한 것인지 확인한 뒤 기대값을 수정합니다.
+ * (영속성 컨텍스트를 비운 뒤 측정하며, 트랜잭션 커밋 시 실행되는 update 는 포함하지 않음)
+ */
+@ActiveProfiles("test")
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Transactional
+class StatementCountTest {
+
+    private static final int ORDER_COUNT = 5;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private PaymentService paymentService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private DeliveryAddressService deliveryAddressService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private StoreRepository storeRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private DeliveryAddressRepository deliveryAddressRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private CardRepository cardRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    private Stores store;
+    private Product product;
+    private DeliveryAddress deliveryAddress;
+    private List<Order> orders = new ArrayList<>();
+
+    private final PrincipalDetails owner = new PrincipalDetails("statementOwner", "statementOwner@example.com", UserRoles.ROLE_OWNER);
+    private final PrincipalDetails customer = new PrincipalDetails("statementCustomer", "statementCustomer@example.com", UserRoles.ROLE_CUSTOMER);
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+
+        User ownerUser = userRepository.save(User.builder()
+                .username(owner.getUsername())
+                .email(owner.getEmail())
+                .password("password")
+                .nickname("statementOwner")
+                .role(UserRoles.ROLE_OWNER)
+                .build());
+
+        User customerUser = userRepository.save(User.builder()
+                .username(customer.getUsername())
+                .email(customer.getEmail())
+                .password("password")
+                .nickname("statementCustomer")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        store = storeRepository.save(Stores.builder()
+                .name("statementStore")
+                .address("Gwanghwamun")
+                .status(true)
+                .user(ownerUser)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .store(store)
+                .name("statementProduct")
+                .description("yummy~")
+                .price(11000)
+                .quantity(100)
+                .hidden(false)
+                .build());
+
+        deliveryAddress = deliveryAddressRepository.save(DeliveryAddress.builder()
+                .deliveryAddress("statementHome")
+                .deliveryAddressInfo("Gwanghwamun")
+                .detailAddress("101")
+                .user(customerUser)
+                .build());
+
+        Card card = cardRepository.save(Card.builder()
+                .cardCompany("국민")
+                .cardNumber("1234")
+                .cardName("국민카드")
+                .user(customerUser)
+                .build());
+
+        for (int i = 0; i < ORDER_COUNT; i++) {
+            Order order = Order.builder()
+                    .orderTime(LocalDateTime.now())
+                    .orderType(OrderType.DELIVERY)
+                    .orderStatus(OrderStatus.ORDER_COMPLETE)
+                    .stores(store)
+                    .user(customerUser)
+                    .deliveryAddress(deliveryAddress)
+                    .build();
+            order.getOrderProductList().add(new OrderProduct(order, product, 2));
+            order = orderRepository.save(order);
+            orders.add(order);
+
+            reviewRepository.save(Review.builder()
+                    .comment("good")
+                    .star(5)
+                    .order(order)
+                    .user(customerUser)
+                    .stores(store)
+                    .build());
+
+            paymentRepository.save(Payment.builder()
+                    .user(customerUser)
+                    .card(card)
+                    .order(order)
+                    .amount(22000)
+                    .build());
+        }
+    }
+
+    @Test
+    @DisplayName("단일 주문 조회 : 주문과 주문 상품 1회")
+    void getSingleOrder() {
+        assertStatements(1, () -> orderService.getSingleOrder(orders.get(0).getOrderId()));
+    }
+
+    @Test
+    @DisplayName("유저 주문 목록 조회 : 사용자, 주문, 리뷰 3회 (전체 개수가 한 페이지 이하라 count 생략)")
+    void getUserOrderList() {
+        assertStatements(3, () -> orderService.getUserOrderList(customer.getUsername(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")), Collections.emptyList(), Collections.emptyList()));
+    }
+
+    @Test
+    @DisplayName("가게 주문 목록 조회 : 사용자, 가게, 주문 3회")
+    void getStoreOrderList() {
+        assertStatements(3, () -> orderService.getStoreOrderList(store.getStoreId(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt")), owner.getUsername()));
+    }
+
+    @Test
+    @DisplayName("결제 목록 조회 : 사용자 id, 결제와 주문 2회")
+    void getPayments() {
+        assertStatements(2, () -> paymentService.getPayments(customer.getUsername()));
+    }
+
+    @Test
+    @DisplayName("유저 리뷰 목록 조회 : 사용자, 리뷰 2회")
+    void getUserReview() {
+        assertStatements(2, () -> reviewService.getUserReview(customer.getUsername(),
+                PageRequest.of(0, 10, Sort.by(Sort.Direction.ASC, "createdAt"))));
+    }
+
+    @Test
+    @DisplayName("상품 단건 조회 : 상품 1회")
+    void getProduct() {
+        assertStatements(1, () -> productService.getProduct(product.getProductId(), customer));
+    }
+
+    @Test
+    @DisplayName("상품 수정 : 상품과 가게, 가게 주인 1회")
+    void updateProduct() {
+        assertStatements(1, () -> productService.updateProduct(product.getProductId(),
+                ProductUpdateRequestDto.builder().name("renamedProduct").build(), owner));
+    }
+
+    @Test
+    @DisplayName("배송지 삭제 : 배송지와 사용자 1회")
+    void deleteDeliveryAddress() {
+        assertStatements(1, () -> deliveryAddressService.deleteDeliveryAddresses(deliveryAddress.getDeliveryAddressId(), customer));
+    }
+
+    private void assertStatements(long expected, Runnable api) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        api.run();
+
+        assertEquals(expected, statistics.getPrepareStatementCount());
+    }
+}
@@ -13,7 +13,7 @@ import com.sparta.delivery.domain.store.service.StoreService;
 
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
-import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -39,7 +39,7 @@ public class StoreServiceTest {
     private StoreRepository storeRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private UserResolver userResolver;
 
     private Stores testStore;
     private UUID storeId;
@@ -62,7 +62,7 @@ public class StoreServiceTest {
         StoreReqDto storeReqDto = new StoreReqDto("본죽", Category.한식, "종로동");
         User testUser = User.builder().username("tom").build();
         when(storeRepository.save(any(Stores.class))).thenReturn(testStore);
-        when(userRepository.findByUsernameAndDeletedAtIsNull(principalDetails.getUsername())).thenReturn(Optional.of(testUser));
+        when(userResolver.getReference(principalDetails.getUsername())).thenReturn(Optional.of(testUser));
         // When - 가게를 저장했을때
         StoreResDto result = storeService.storeCreate(storeReqDto, principalDetails);
 
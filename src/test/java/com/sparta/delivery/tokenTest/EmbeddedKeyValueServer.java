@@ -0,0 +1,242 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.repository.RedisRefreshTokenStore;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.net.SocketException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * RedisRefreshTokenStore 테스트, 벤치마크용 Redis stand-in 서버
+ *
+ * 실제 Redis 없이 RESP 프로토콜로 localhost 의 임의 포트에서 응답합니다.
+ * RedisRefreshTokenStore 가 사용하는 명령(SET [NX] [PX], GET, GETDEL, DEL, EVAL)과 연결 시 명령(PING, CLIENT)만 지원합니다.
+ * 요청은 실제 소켓을 거치므로 네트워크 왕복 비용이 포함됩니다.
+ *
+ * Lua 인터프리터는 없으므로 EVAL 은 RedisRefreshTokenStore 의 스크립트만 같은 명령을 차례로 실행하는 구현으로 처리합니다.
+ * Redis 처럼 명령과 스크립트는 한 번에 하나씩 실행되므로 스크립트 안의 명령 사이에 다른 명령이 끼어들지 않습니다.
+ */
+public class EmbeddedKeyValueServer implements Closeable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "embedded-kv");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<String, Script> scripts = Map.of(
+            RedisRefreshTokenStore.SAVE_SCRIPT, this::saveScript,
+            RedisRefreshTokenStore.DELETE_SCRIPT, this::deleteScript);
+
+    public EmbeddedKeyValueServer() throws IOException {
+        serverSocket = new ServerSocket(0);
+        executor.execute(this::acceptLoop);
+    }
+
+    public int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    // 만료되지 않은 key 수
+    public int size() {
+        long now = System.currentTimeMillis();
+        return (int) entries.values().stream().filter(entry -> !entry.isExpired(now)).count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Socket socket = serverSocket.accept();
+                executor.execute(() -> serve(socket));
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void serve(Socket socket) {
+        try (socket;
+             InputStream in = new BufferedInputStream(socket.getInputStream());
+             OutputStream out = new BufferedOutputStream(socket.getOutputStream())) {
+            List<String> command;
+            while ((command = readCommand(in)) != null) {
+                out.write(execute(command).getBytes(StandardCharsets.UTF_8));
+                out.flush();
+            }
+        } catch (SocketException e) {
+            // 클라이언트 연결 종료
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // Redis 처럼 명령을 한 번에 하나씩 실행
+    private synchronized String execute(List<String> command) {
+        String name = command.get(0).toUpperCase(Locale.ROOT);
+        long now = System.currentTimeMillis();
+
+        return switch (name) {
+            case "PING" -> "+PONG\r\n";
+            case "CLIENT" -> "+OK\r\n";
+            case "GET" -> bulk(get(command.get(1), now));
+            case "GETDEL" -> {
+                Entry removed = entries.remove(command.get(1));
+                yield bulk(removed == null || removed.isExpired(now) ? null : removed.value());
+            }
+            case "DEL" -> {
+                int deleted = 0;
+                for (String key : command.subList(1, command.size())) {
+                    Entry removed = entries.remove(key);
+                    if (removed != null && !removed.isExpired(now)) {
+                        deleted++;
+                    }
+                }
+                yield ":" + deleted + "\r\n";
+            }
+            case "SET" -> set(command, now);
+            case "EVAL" -> eval(command, now);
+            default -> "-ERR unknown command '" + command.get(0) + "'\r\n";
+        };
+    }
+
+    private String set(List<String> command, long now) {
+        String key = command.get(1);
+        boolean nx = false;
+        long expiresAt = Long.MAX_VALUE;
+        for (int i = 3; i < command.size(); i++) {
+            String option = command.get(i).toUpperCase(Locale.ROOT);
+            if (option.equals("NX")) {
+                nx = true;
+            } else if (option.equals("PX")) {
+                expiresAt = now + Long.parseLong(command.get(++i));
+            }
+        }
+
+        Entry entry = new Entry(command.get(2), expiresAt);
+        if (!nx) {
+            entries.put(key, entry);
+            return "+OK\r\n";
+        }
+
+        // 만료된 key 는 없는 것으로 보고 원자적으로 교체
+        Entry[] previous = {null};
+        entries.compute(key, (k, current) -> {
+            if (current != null && !current.isExpired(now)) {
+                previous[0] = current;
+                return current;
+            }
+            return entry;
+        });
+        return previous[0] == null ? "+OK\r\n" : "$-1\r\n";
+    }
+
+    // EVAL {스크립트} {key 수} {key ...} {인자 ...}
+    private String eval(List<String> command, long now) {
+        Script script = scripts.get(command.get(1));
+        if (script == null) {
+            return "-ERR unsupported script\r\n";
+        }
+        int keyCount = Integer.parseInt(command.get(2));
+        List<String> keys = command.subList(3, 3 + keyCount);
+        List<String> args = command.subList(3 + keyCount, command.size());
+        return ":" + script.run(keys, args, now) + "\r\n";
+    }
+
+    // RedisRefreshTokenStore.SAVE_SCRIPT
+    private long saveScript(List<String> keys, List<String> args, long now) {
+        if (set(List.of("SET", keys.get(0), args.get(0), "NX", "PX", args.get(2)), now).startsWith("$-1")) {
+            return 0;
+        }
+        set(List.of("SET", keys.get(1), args.get(1), "PX", args.get(2)), now);
+        return 1;
+    }
+
+    // RedisRefreshTokenStore.DELETE_SCRIPT
+    private long deleteScript(List<String> keys, List<String> args, long now) {
+        Entry removed = entries.remove(keys.get(0));
+        if (removed == null || removed.isExpired(now)) {
+            return 0;
+        }
+        if (Objects.equals(get(keys.get(1), now), args.get(0))) {
+            entries.remove(keys.get(1));
+        }
+        return 1;
+    }
+
+    private String get(String key, long now) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.isExpired(now)) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.value();
+    }
+
+    private String bulk(String value) {
+        if (value == null) {
+            return "$-1\r\n";
+        }
+        return "$" + value.getBytes(StandardCharsets.UTF_8).length + "\r\n" + value + "\r\n";
+    }
+
+    // *{개수}\r\n ${길이}\r\n{값}\r\n ... 형식의 명령 (연결이 끊기면 null)
+    private List<String> readCommand(InputStream in) throws IOException {
+        String header = readLine(in);
+        if (header == null) {
+            return null;
+        }
+        int count = Integer.parseInt(header.substring(1));
+        List<String> command = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = Integer.parseInt(readLine(in).substring(1));
+            byte[] value = in.readNBytes(length);
+            in.readNBytes(2);
+            command.add(new String(value, StandardCharsets.UTF_8));
+        }
+        return command;
+    }
+
+    private String readLine(InputStream in) throws IOException {
+        StringBuilder line = new StringBuilder();
+        int b;
+        while ((b = in.read()) != -1) {
+            if (b == '\r') {
+                in.read();
+                return line.toString();
+            }
+            line.append((char) b);
+        }
+        return null;
+    }
+
+    private interface Script {
+        long run(List<String> keys, List<String> args, long now);
+    }
+
+    private record Entry(String value, long expiresAt) {
+        private boolean isExpired(long now) {
+            return expiresAt <= now;
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.repository.InMemoryRefreshTokenStore;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class InMemoryRefreshTokenStoreTest {
+
+    private final InMemoryRefreshTokenStore store = new InMemoryRefreshTokenStore();
+
+    private final RefreshTokenOwner owner =
+            new RefreshTokenOwner(UUID.randomUUID(), "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER);
+
+    @Test
+    @DisplayName("유효한 토큰이 있으면 저장하지 않고, 만료된 토큰은 교체")
+    void testSaveIfNoActiveToken() {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(store.saveIfNoActiveToken(owner, "old", "oldHash", now.plusHours(1), now));
+        assertFalse(store.saveIfNoActiveToken(owner, "new", "newHash", now.plusHours(1), now));
+        assertEquals(owner, store.findOwner("oldHash", now).orElseThrow());
+
+        LocalDateTime later = now.plusHours(2);
+        assertTrue(store.saveIfNoActiveToken(owner, "new", "newHash", later.plusHours(1), later));
+        assertTrue(store.findOwner("oldHash", later).isEmpty());
+        assertEquals(owner, store.findOwner("newHash", later).orElseThrow());
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("만료된 토큰은 조회되지 않고 제거")
+    void testExpiredTokenEvicted() {
+        LocalDateTime now = LocalDateTime.now();
+        store.saveIfNoActiveToken(owner, "refresh", "hash", now.minusSeconds(1), now.minusHours(1));
+
+        assertTrue(store.findOwner("hash", now).isEmpty());
+        assertEquals(0, store.size());
+
+        store.saveIfNoActiveToken(owner, "refresh", "hash", now.minusSeconds(1), now.minusHours(1));
+        assertEquals(1, store.evictExpired());
+        assertFalse(store.delete("hash"));
+    }
+}
@@ -0,0 +1,190 @@
+package com.sparta.delivery.tokenTest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.repository.RedisRefreshTokenStore;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import redis.clients.jedis.JedisPooled;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// 실제 Redis 대신 같은 프로토콜로 응답하는 EmbeddedKeyValueServer 에 소켓으로 연결
+class RedisRefreshTokenStoreTest {
+
+    private EmbeddedKeyValueServer server;
+    private RedisRefreshTokenStore store;
+
+    private final RefreshTokenOwner owner =
+            new RefreshTokenOwner(UUID.randomUUID(), "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER);
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = new EmbeddedKeyValueServer();
+        store = newStore();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+        server.close();
+    }
+
+    @Test
+    @DisplayName("유효한 토큰이 있으면 저장하지 않고, 만료되면 새 토큰으로 교체")
+    void testSaveIfNoActiveToken() throws InterruptedException {
+        LocalDateTime now = LocalDateTime.now();
+
+        assertTrue(store.saveIfNoActiveToken(owner, "old", "oldHash", now.plusNanos(300_000_000), now));
+        assertFalse(store.saveIfNoActiveToken(owner, "new", "newHash", now.plusHours(1), now));
+        assertEquals(owner, store.findOwner("oldHash", LocalDateTime.now()).orElseThrow());
+        assertTrue(store.findOwner("newHash", LocalDateTime.now()).isEmpty());
+
+        Thread.sleep(400);
+
+        LocalDateTime later = LocalDateTime.now();
+        assertTrue(store.findOwner("oldHash", later).isEmpty());
+        assertTrue(store.saveIfNoActiveToken(owner, "new", "newHash", later.plusHours(1), later));
+        assertEquals(owner, store.findOwner("newHash", later).orElseThrow());
+        assertEquals(2, server.size()); // 사용자 key, 토큰 key
+    }
+
+    @Test
+    @DisplayName("토큰을 제거하면 조회되지 않고, 같은 사용자가 바로 다시 저장할 수 있음")
+    void testDeleteReleasesUser() {
+        LocalDateTime now = LocalDateTime.now();
+        store.saveIfNoActiveToken(owner, "refresh", "hash", now.plusHours(1), now);
+
+        assertTrue(store.delete("hash"));
+        assertFalse(store.delete("hash"));
+        assertTrue(store.findOwner("hash", now).isEmpty());
+        assertEquals(0, server.size());
+
+        assertTrue(store.saveIfNoActiveToken(owner, "next", "nextHash", now.plusHours(1), now));
+    }
+
+    @Test
+    @DisplayName("다른 인스턴스에서 저장한 토큰도 조회, 제거되고, 동시에 로그인해도 한 토큰만 저장됨")
+    void testSharedAcrossInstances() throws Exception {
+        RedisRefreshTokenStore anotherInstance = newStore();
+        try {
+            LocalDateTime now = LocalDateTime.now();
+
+            ExecutorService executor = Executors.newFixedThreadPool(8);
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Boolean>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                RedisRefreshTokenStore instance = (i % 2 == 0) ? store : anotherInstance;
+                String tokenHash = "hash" + i;
+                results.add(executor.submit(() -> {
+                    start.await();
+                    return instance.saveIfNoActiveToken(owner, "refresh", tokenHash, now.plusHours(1), now);
+                }));
+            }
+            start.countDown();
+
+            String savedHash = null;
+            for (int i = 0; i < results.size(); i++) {
+                if (results.get(i).get(5, TimeUnit.SECONDS)) {
+                    assertNull(savedHash);
+                    savedHash = "hash" + i;
+                }
+            }
+            executor.shutdown();
+
+            assertNotNull(savedHash);
+            assertEquals(2, server.size()); // 저장에 실패한 토큰 key 는 남지 않음
+            assertEquals(owner, anotherInstance.findOwner(savedHash, now).orElseThrow());
+            assertEquals(owner, store.findOwner(savedHash, now).orElseThrow());
+
+            assertTrue(anotherInstance.delete(savedHash));
+            assertTrue(store.findOwner(savedHash, now).isEmpty());
+        } finally {
+            anotherInstance.close();
+        }
+    }
+
+    @Test
+    @DisplayName("제거하는 토큰이 사용자 key 를 더 이상 가리키지 않으면 사용자 key 는 유지")
+    void testDeleteKeepsOtherTokenUserKey() {
+        LocalDateTime now = LocalDateTime.now();
+        store.saveIfNoActiveToken(owner, "old", "oldHash", now.plusHours(1), now);
+
+        // 이전 토큰의 사용자 key 가 만료되어 다른 토큰이 저장된 상태
+        try (JedisPooled jedis = new JedisPooled("localhost", server.getPort())) {
+            jedis.set("refresh:user:" + owner.userId(), "newHash");
+        }
+
+        assertTrue(store.delete("oldHash"));
+        assertEquals(1, server.size()); // 다른 토큰의 사용자 key
+        assertFalse(store.saveIfNoActiveToken(owner, "next", "nextHash", now.plusHours(1), now));
+    }
+
+    @Test
+    @DisplayName("토큰 제거와 새 토큰 저장이 동시에 실행되어도 사용자당 한 토큰만 남고, 사용자 key 와 토큰 key 가 함께 유지됨")
+    void testConcurrentSaveAndDelete() throws Exception {
+        RedisRefreshTokenStore anotherInstance = newStore();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            for (int round = 0; round < 50; round++) {
+                LocalDateTime now = LocalDateTime.now();
+                String currentHash = "current" + round;
+                assertTrue(store.saveIfNoActiveToken(owner, "refresh", currentHash, now.plusHours(1), now));
+
+                CountDownLatch start = new CountDownLatch(1);
+                Future<Boolean> deleted = executor.submit(() -> {
+                    start.await();
+                    return anotherInstance.delete(currentHash);
+                });
+                List<Future<Boolean>> saves = new ArrayList<>();
+                for (int i = 0; i < 3; i++) {
+                    String tokenHash = "next" + round + "-" + i;
+                    RedisRefreshTokenStore instance = (i % 2 == 0) ? store : anotherInstance;
+                    saves.add(executor.submit(() -> {
+                        start.await();
+                        return instance.saveIfNoActiveToken(owner, "refresh", tokenHash, now.plusHours(1), now);
+                    }));
+                }
+                start.countDown();
+
+                assertTrue(deleted.get(5, TimeUnit.SECONDS));
+                String savedHash = null;
+                for (int i = 0; i < saves.size(); i++) {
+                    if (saves.get(i).get(5, TimeUnit.SECONDS)) {
+                        assertNull(savedHash);
+                        savedHash = "next" + round + "-" + i;
+                    }
+                }
+
+                if (savedHash == null) {
+                    // 모든 저장이 제거보다 먼저 실행됨
+                    assertEquals(0, server.size());
+                } else {
+                    // 새 토큰의 사용자 key 가 제거되지 않아 다른 토큰을 저장할 수 없음
+                    assertEquals(2, server.size());
+                    assertEquals(owner, store.findOwner(savedHash, now).orElseThrow());
+                    assertFalse(store.saveIfNoActiveToken(owner, "refresh", "other" + round, now.plusHours(1), now));
+                    assertTrue(store.delete(savedHash));
+                }
+                assertEquals(0, server.size());
+            }
+        } finally {
+            executor.shutdown();
+            anotherInstance.close();
+        }
+    }
+
+    private RedisRefreshTokenStore newStore() {
+        return new RedisRefreshTokenStore(new ObjectMapper(), "localhost", server.getPort(), 1000, 4, "refresh:");
+    }
+}
@@ -0,0 +1,67 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.entity.RefreshToken;
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import com.sparta.delivery.domain.token.service.RefreshTokenReaper;
+import com.sparta.delivery.domain.token.service.TokenDigest;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ActiveProfiles("test")
+@SpringBootTest
+@Transactional
+class RefreshTokenReaperTest {
+
+    @Autowired
+    private RefreshTokenReaper refreshTokenReaper;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("만료된 refresh token 만 제거")
+    void testReapExpiredTokens() {
+        // Given
+        RefreshToken expired = saveToken("expireduser", LocalDateTime.now().minusMinutes(1));
+        RefreshToken valid = saveToken("validuser", LocalDateTime.now().plusHours(1));
+
+        // When
+        int deleted = refreshTokenReaper.reapExpiredTokens();
+
+        // Then
+        assertEquals(1, deleted);
+        assertTrue(refreshTokenRepository.findByTokenHash(expired.getTokenHash()).isEmpty());
+        assertTrue(refreshTokenRepository.findByTokenHash(valid.getTokenHash()).isPresent());
+    }
+
+    private RefreshToken saveToken(String username, LocalDateTime expiresAt) {
+        User user = userRepository.save(User.builder()
+                .username(username)
+                .email(username + "@example.com")
+                .password("password")
+                .nickname(username)
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        return refreshTokenRepository.save(RefreshToken.builder()
+                .user(user)
+                .refresh(username + "-refresh")
+                .tokenHash(TokenDigest.sha256(username + "-refresh"))
+                .expiresAt(expiresAt)
+                .build());
+    }
+}
@@ -0,0 +1,53 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.config.global.exception.custom.InvalidRefreshTokenException;
+import com.sparta.delivery.domain.token.dto.RefreshTokenOwner;
+import com.sparta.delivery.domain.token.interfaces.RefreshTokenStore;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.token.service.RefreshTokenServiceImpl;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class RefreshTokenReissueTest {
+
+    private final JwtUtil jwtUtil = spy(new JwtUtil("testsecrettestsecrettestsecrettestsecret123"));
+    private final RefreshTokenStore refreshTokenStore = mock(RefreshTokenStore.class);
+    private final RefreshTokenServiceImpl refreshTokenService =
+            new RefreshTokenServiceImpl(refreshTokenStore, jwtUtil, 600000L, 86400000L);
+
+    private final RefreshTokenOwner owner =
+            new RefreshTokenOwner(UUID.randomUUID(), "testuser", "test@example.com", UserRoles.ROLE_CUSTOMER);
+
+    @Test
+    @DisplayName("refresh token 을 한 번만 파싱하여 access token 재발급")
+    void testReissueParsesTokenOnce() {
+        String refresh = jwtUtil.createJwt("refresh", owner.username(), owner.email(), owner.role(), 86400000L);
+        when(refreshTokenStore.findOwner(anyString(), any())).thenReturn(Optional.of(owner));
+
+        String access = refreshTokenService.reissueAccessToken(refresh);
+
+        verify(jwtUtil, times(1)).parseToken(refresh);
+        verify(jwtUtil, never()).isExpired(anyString());
+        verify(jwtUtil, never()).getCategory(anyString());
+        assertTrue(jwtUtil.parseToken(access).isAccessToken());
+        assertEquals(owner.username(), jwtUtil.parseToken(access).username());
+    }
+
+    @Test
+    @DisplayName("access token 으로는 재발급하지 않음")
+    void testReissueRejectsAccessToken() {
+        String access = jwtUtil.createJwt("access", owner.username(), owner.email(), owner.role(), 600000L);
+
+        assertThrows(InvalidRefreshTokenException.class, () -> refreshTokenService.reissueAccessToken(access));
+        verifyNoInteractions(refreshTokenStore);
+    }
+}
@@ -0,0 +1,120 @@
+package com.sparta.delivery.tokenTest;
+
+import com.sparta.delivery.domain.token.dto.JwtClaims;
+import com.sparta.delivery.domain.token.service.JwtUtil;
+import com.sparta.delivery.domain.token.service.VerifiedTokenCache;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class VerifiedTokenCacheTest {
+
+    private static final int MAX_SIZE = 10;
+
+    private final JwtUtil jwtUtil = mock(JwtUtil.class);
+
+    private SimpleMeterRegistry meterRegistry;
+    private VerifiedTokenCache verifiedTokenCache;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        verifiedTokenCache = new VerifiedTokenCache(jwtUtil, meterRegistry, MAX_SIZE, 600000);
+
+        // 토큰 "{username}-{n}" 은 1시간 뒤 만료되는 username 의 access token
+        when(jwtUtil.parseToken(anyString())).thenAnswer(invocation -> {
+            String token = invocation.getArgument(0);
+            return claims(token.substring(0, token.indexOf('-')), Instant.now().plusSeconds(3600));
+        });
+    }
+
+    @Test
+    @DisplayName("한 번 검증한 토큰은 다시 검증하지 않고, hit/miss 수가 기록됨")
+    void testHitAndMissCounts() {
+        JwtClaims first = verifiedTokenCache.getVerifiedClaims("alice-1");
+        JwtClaims cached = verifiedTokenCache.getVerifiedClaims("alice-1");
+        verifiedTokenCache.getVerifiedClaims("alice-1");
+        verifiedTokenCache.getVerifiedClaims("bob-1");
+
+        assertSame(first, cached);
+        verify(jwtUtil, times(1)).parseToken("alice-1");
+        assertEquals(2, counter("jwt.token.cache.requests", "result", "hit"));
+        assertEquals(2, counter("jwt.token.cache.requests", "result", "miss"));
+        assertEquals(2, size());
+    }
+
+    @Test
+    @DisplayName("TTL 이 남아 있어도 토큰의 exp 가 지나면 캐시에서 반환되지 않음")
+    void testEntryNeverOutlivesExpiration() throws InterruptedException {
+        when(jwtUtil.parseToken("short-1"))
+                .thenReturn(claims("short", Instant.now().plusMillis(200)))
+                .thenThrow(new ExpiredJwtException(null, null, "만료된 토큰"));
+
+        verifiedTokenCache.getVerifiedClaims("short-1");
+        verifiedTokenCache.getVerifiedClaims("short-1");
+        assertEquals(1, counter("jwt.token.cache.requests", "result", "hit"));
+
+        Thread.sleep(300);
+
+        assertThrows(JwtException.class, () -> verifiedTokenCache.getVerifiedClaims("short-1"));
+        verify(jwtUtil, times(2)).parseToken("short-1");
+        assertEquals(1, counter("jwt.token.cache.evictions", "cause", "expired"));
+        assertEquals(0, size());
+    }
+
+    @Test
+    @DisplayName("최대 크기를 넘으면 엔트리를 제거해 최대 크기를 넘지 않음")
+    void testEvictionAtMaxSize() {
+        int tokens = 25;
+        for (int i = 0; i < tokens; i++) {
+            verifiedTokenCache.getVerifiedClaims("user" + i + "-1");
+            assertTrue(size() <= MAX_SIZE);
+        }
+
+        assertEquals(MAX_SIZE, size());
+        assertEquals(tokens - MAX_SIZE, counter("jwt.token.cache.evictions", "cause", "size"));
+        assertEquals(0, counter("jwt.token.cache.evictions", "cause", "expired"));
+    }
+
+    @Test
+    @DisplayName("invalidateUser 는 해당 사용자의 토큰만 모두 제거")
+    void testInvalidateUserRemovesEveryToken() {
+        verifiedTokenCache.getVerifiedClaims("alice-1");
+        verifiedTokenCache.getVerifiedClaims("alice-2");
+        verifiedTokenCache.getVerifiedClaims("alice-3");
+        verifiedTokenCache.getVerifiedClaims("bob-1");
+
+        verifiedTokenCache.invalidateUser("alice");
+
+        assertEquals(1, size());
+        assertEquals(3, counter("jwt.token.cache.evictions", "cause", "invalidated"));
+
+        // 제거된 토큰은 다시 검증
+        verifiedTokenCache.getVerifiedClaims("alice-2");
+        verifiedTokenCache.getVerifiedClaims("bob-1");
+        verify(jwtUtil, times(2)).parseToken("alice-2");
+        verify(jwtUtil, times(1)).parseToken("bob-1");
+    }
+
+    private JwtClaims claims(String username, Instant expiration) {
+        return new JwtClaims("access", username, username + "@example.com", UserRoles.ROLE_CUSTOMER, expiration);
+    }
+
+    private double counter(String name, String tagKey, String tagValue) {
+        return meterRegistry.counter(name, tagKey, tagValue).count();
+    }
+
+    private double size() {
+        return meterRegistry.get("jwt.token.cache.size").gauge().value();
+    }
+}
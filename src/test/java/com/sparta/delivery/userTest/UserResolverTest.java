@@ -0,0 +1,63 @@
+package com.sparta.delivery.userTest;
+
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.UserResolver;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class UserResolverTest {
+
+    private static final int MAX_SIZE = 10;
+
+    private final UserRepository userRepository = mock(UserRepository.class);
+
+    @Test
+    @DisplayName("캐시가 가득 차도 전체를 비우지 않고 일부만 제거하여 나머지 사용자는 계속 캐시에서 조회")
+    void testEvictionKeepsMostEntries() {
+        when(userRepository.findUserIdByUsername(anyString())).thenAnswer(invocation -> Optional.of(UUID.randomUUID()));
+        UserResolver userResolver = new UserResolver(userRepository, 600000, MAX_SIZE);
+
+        for (int i = 0; i <= MAX_SIZE; i++) {
+            userResolver.findUserId("user" + i);
+        }
+        clearInvocations(userRepository);
+
+        for (int i = 0; i <= MAX_SIZE; i++) {
+            userResolver.findUserId("user" + i);
+        }
+
+        // 최대 크기의 10% (최소 1개) 만큼만 제거되어 다시 조회
+        verify(userRepository, atMost(2)).findUserIdByUsername(anyString());
+    }
+
+    @Test
+    @DisplayName("가득 찼을 때 만료된 엔트리가 있으면 만료된 엔트리만 제거")
+    void testExpiredEntriesEvictedFirst() throws InterruptedException {
+        when(userRepository.findUserIdByUsername(anyString())).thenAnswer(invocation -> Optional.of(UUID.randomUUID()));
+        UserResolver shortLived = new UserResolver(userRepository, 300, MAX_SIZE);
+
+        for (int i = 0; i < MAX_SIZE / 2; i++) {
+            shortLived.findUserId("expired" + i);
+        }
+        Thread.sleep(350);
+        for (int i = 0; i < MAX_SIZE / 2; i++) {
+            shortLived.findUserId("active" + i);
+        }
+
+        // 가득 찬 상태에서 추가하면 만료된 엔트리만 제거되고 만료되지 않은 엔트리는 남음
+        shortLived.findUserId("new");
+        clearInvocations(userRepository);
+
+        for (int i = 0; i < MAX_SIZE / 2; i++) {
+            shortLived.findUserId("active" + i);
+        }
+        verify(userRepository, never()).findUserIdByUsername(anyString());
+    }
+}
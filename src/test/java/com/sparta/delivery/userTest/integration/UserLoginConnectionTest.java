@@ -0,0 +1,106 @@
+package com.sparta.delivery.userTest.integration;
+
+import com.sparta.delivery.domain.token.repository.RefreshTokenRepository;
+import com.sparta.delivery.domain.user.dto.LoginRequestDto;
+import com.sparta.delivery.domain.user.entity.User;
+import com.sparta.delivery.domain.user.enums.UserRoles;
+import com.sparta.delivery.domain.user.repository.UserRepository;
+import com.sparta.delivery.domain.user.service.PasswordVerifier;
+import com.sparta.delivery.domain.user.service.UserService;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.SpyBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// 로그인 중 DB 커넥션 사용을 확인하므로 @Transactional 을 사용하지 않고 직접 정리
+@ActiveProfiles("test")
+@SpringBootTest
+@AutoConfigureMockMvc
+class UserLoginConnectionTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PasswordEncoder passwordEncoder;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @SpyBean
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        userRepository.save(User.builder()
+                .email("connection@example.com")
+                .password(passwordEncoder.encode("password"))
+                .username("connectionUser")
+                .nickname("connectionUser")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenRepository.deleteAllInBatch();
+        userRepository.deleteAllInBatch();
+    }
+
+    @Test
+    @DisplayName("비밀번호를 검증하는 동안 DB 커넥션을 잡고 있지 않음")
+    void testNoConnectionHeldDuringPasswordVerification() {
+        AtomicInteger activeConnections = recordActiveConnectionsOnVerify();
+
+        assertNotNull(userService.authenticateUser(new LoginRequestDto("connectionUser", "password")).getRefreshToken());
+        assertEquals(0, activeConnections.get());
+    }
+
+    @Test
+    @DisplayName("로그인 요청은 OSIV 에서 제외되어 비밀번호를 검증하는 동안 DB 커넥션을 잡고 있지 않음")
+    void testSigninRequestHoldsNoConnectionDuringPasswordVerification() throws Exception {
+        AtomicInteger activeConnections = recordActiveConnectionsOnVerify();
+
+        mockMvc.perform(post("/api/user/signin")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("{\"username\":\"connectionUser\",\"password\":\"password\"}"))
+                .andExpect(status().isOk());
+        assertEquals(0, activeConnections.get());
+    }
+
+    // 비밀번호 검증 시작 시점의 사용 중인 커넥션 수
+    private AtomicInteger recordActiveConnectionsOnVerify() {
+        AtomicInteger activeConnections = new AtomicInteger(-1);
+        doAnswer(invocation -> {
+            activeConnections.set(dataSource.getHikariPoolMXBean().getActiveConnections());
+            return invocation.callRealMethod();
+        }).when(passwordVerifier).verify(any(), any());
+        return activeConnections;
+    }
+}
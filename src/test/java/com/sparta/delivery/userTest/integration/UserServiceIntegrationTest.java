@@ -2,18 +2,21 @@ package com.sparta.delivery.userTest.integration;
 
 import com.sparta.delivery.config.auth.PrincipalDetails;
 import com.sparta.delivery.config.global.exception.custom.ForbiddenException;
+import com.sparta.delivery.config.global.exception.custom.RefreshTokenAlreadyExistsException;
 import com.sparta.delivery.config.global.exception.custom.UserNotFoundException;
 import com.sparta.delivery.domain.user.dto.*;
 import com.sparta.delivery.domain.user.entity.User;
 import com.sparta.delivery.domain.user.enums.UserRoles;
 import com.sparta.delivery.domain.user.repository.UserRepository;
 import com.sparta.delivery.domain.user.service.UserService;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
@@ -40,6 +43,9 @@ class UserServiceIntegrationTest {
     @Autowired
     private PasswordEncoder passwordEncoder;
 
+    @Autowired
+    private EntityManager entityManager;
+
     private User testUser;
     private UUID userId;
 
@@ -102,6 +108,43 @@ class UserServiceIntegrationTest {
         assertNotNull(response.getAccessToken());
     }
 
+    @Test
+    @DisplayName("로그인 성공 시 예전 형식의 비밀번호 해시를 재해시")
+    void testAuthenticateUserRehashLegacyPassword() {
+        // Given
+        User legacyUser = userRepository.save(User.builder()
+                .email("legacy@example.com")
+                .password(new BCryptPasswordEncoder(4).encode("password"))
+                .username("legacyuser")
+                .nickname("legacynick")
+                .role(UserRoles.ROLE_CUSTOMER)
+                .build());
+
+        // When
+        userService.authenticateUser(new LoginRequestDto("legacyuser", "password"));
+        entityManager.clear();
+
+        // Then
+        String storedPassword = userRepository.findById(legacyUser.getUserId()).orElseThrow().getPassword();
+        assertTrue(storedPassword.startsWith("{bcrypt}"));
+        assertTrue(passwordEncoder.matches("password", storedPassword));
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 만료되지 않은 refresh token 이 이미 존재하는 경우")
+    void testAuthenticateUserFailAlreadyLoggedIn() {
+        // Given
+        LoginRequestDto loginRequestDto = new LoginRequestDto("testuser", "password");
+        userService.authenticateUser(loginRequestDto);
+
+        // When & Then
+        RefreshTokenAlreadyExistsException exception = assertThrows(RefreshTokenAlreadyExistsException.class, ()->{
+            userService.authenticateUser(loginRequestDto);
+        });
+
+        assertEquals("이미 로그인되었거나 비정상 로그아웃되었습니다." , exception.getMessage());
+    }
+
     @Test
     @DisplayName("로그인 실패 - username을 기반으로 user를 찾지못한 경우")
     void testAuthenticateUserFailUsername(){